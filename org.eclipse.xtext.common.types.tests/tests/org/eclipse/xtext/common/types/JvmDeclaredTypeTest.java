@@ -7,11 +7,19 @@
  *******************************************************************************/
 package org.eclipse.xtext.common.types;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Set;
 
 import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.xtext.common.types.impl.JvmDeclaredTypeImplCustom;
+import org.eclipse.xtext.common.types.util.RawSuperTypes;
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
 /**
  * @author Sebastian Zarnekow - Initial contribution and API
  */
@@ -262,4 +270,54 @@ public abstract class JvmDeclaredTypeTest extends JvmComponentTypeTest {
 		assertFalse(iterator.hasNext());
 	}
 	
+	@Test public void testRawSuperTypes_01() {
+		JvmDeclaredType type = getObjectUnderTest();
+		JvmGenericType superType = TypesFactory.eINSTANCE.createJvmGenericType();
+		JvmGenericType superSuperType = TypesFactory.eINSTANCE.createJvmGenericType();
+		ResourceImpl resource = new ResourceImpl();
+		resource.getContents().add(type);
+		resource.getContents().add(superType);
+		resource.getContents().add(superSuperType);
+		type.getSuperTypes().add(createReference(superType));
+		superType.getSuperTypes().add(createReference(superSuperType));
+		Set<JvmType> superTypes = new RawSuperTypes().collect(type);
+		assertEquals(Arrays.asList(superType, superSuperType), Lists.newArrayList(superTypes));
+		Set<JvmType> cached = ((JvmDeclaredTypeImplCustom) type).getAllRawSuperTypes();
+		assertSame(cached, ((JvmDeclaredTypeImplCustom) type).getAllRawSuperTypes());
+		superTypes.add(type);
+		assertEquals(Arrays.asList(superType, superSuperType), Lists.newArrayList(new RawSuperTypes().collect(type)));
+	}
+	
+	@Test public void testRawSuperTypes_02() {
+		JvmDeclaredType type = getObjectUnderTest();
+		JvmGenericType superType = TypesFactory.eINSTANCE.createJvmGenericType();
+		JvmGenericType superSuperType = TypesFactory.eINSTANCE.createJvmGenericType();
+		ResourceImpl resource = new ResourceImpl();
+		resource.getContents().add(type);
+		resource.getContents().add(superType);
+		resource.getContents().add(superSuperType);
+		type.getSuperTypes().add(createReference(superType));
+		assertEquals(Collections.singleton(superType), new RawSuperTypes().collect(type));
+		superType.getSuperTypes().add(createReference(superSuperType));
+		assertEquals(Sets.newHashSet(superType, superSuperType), new RawSuperTypes().collect(type));
+	}
+	
+	@Test public void testRawSuperTypes_03() {
+		JvmDeclaredType type = getObjectUnderTest();
+		JvmGenericType superType = TypesFactory.eINSTANCE.createJvmGenericType();
+		ResourceImpl resource = new ResourceImpl();
+		resource.getContents().add(type);
+		resource.getContents().add(superType);
+		type.getSuperTypes().add(createReference(superType));
+		superType.getSuperTypes().add(createReference(type));
+		assertEquals(Collections.singleton(superType), new RawSuperTypes().collect(type));
+		assertEquals(Collections.singleton(type), new RawSuperTypes().collect(superType));
+	}
+	
+	protected JvmParameterizedTypeReference createReference(JvmType type) {
+		JvmParameterizedTypeReference reference = TypesFactory.eINSTANCE.createJvmParameterizedTypeReference();
+		reference.setType(type);
+		return reference;
+	}
+	
 }
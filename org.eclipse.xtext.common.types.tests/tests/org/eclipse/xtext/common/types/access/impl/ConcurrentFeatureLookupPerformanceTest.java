@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.impl;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmFeature;
+import org.eclipse.xtext.common.types.xtext.ui.RefactoringTestLanguageInjectorProvider;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.tests.StopwatchRule;
+import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+
+/**
+ * Measures the time of {@link JvmDeclaredType#findAllFeaturesByName(String)} for
+ * a growing number of threads that query the same popular types. The numbers are
+ * reported by the {@link StopwatchRule}.
+ */
+@RunWith(XtextRunner.class)
+@InjectWith(RefactoringTestLanguageInjectorProvider.class)
+public class ConcurrentFeatureLookupPerformanceTest {
+
+	private static final int LOOKUPS_PER_THREAD = 50000;
+
+	@Rule public StopwatchRule rule = new StopwatchRule(true);
+
+	private static final String[] TYPE_NAMES = {
+		"java.lang.Object", "java.lang.String", "java.util.ArrayList", "java.util.HashMap"
+	};
+
+	@Inject
+	private IndexedJvmTypeAccess indexedJvmTypeAccess;
+
+	@Inject
+	private TypeResourceServices services;
+
+	@Test
+	public void testFindAllFeaturesByName() throws Exception {
+		SynchronizedXtextResourceSet resourceSet = new SynchronizedXtextResourceSet();
+		ClasspathTypeProvider typeProvider = new ClasspathTypeProvider(getClass().getClassLoader(), resourceSet, indexedJvmTypeAccess, services);
+		final List<JvmDeclaredType> types = Lists.newArrayList();
+		final List<String> names = Lists.newArrayList();
+		for (String typeName : TYPE_NAMES) {
+			JvmDeclaredType type = (JvmDeclaredType) typeProvider.findTypeByName(typeName);
+			types.add(type);
+			for (JvmFeature feature : type.getDeclaredOperations()) {
+				names.add(feature.getSimpleName());
+			}
+		}
+		// warm up, this populates the feature maps
+		int expected = lookup(types, names, LOOKUPS_PER_THREAD);
+		Assert.assertTrue(expected > 0);
+		int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+		for (int threads = 1; threads <= maxThreads; threads *= 2) {
+			StoppedTask task = Stopwatches.forTask("findAllFeaturesByName with " + threads + " threads");
+			task.start();
+			try {
+				measure(threads, types, names, expected);
+			} finally {
+				task.stop();
+			}
+		}
+	}
+
+	/**
+	 * Runs the lookups in the given number of threads and checks that each thread finds
+	 * the same features as a single thread.
+	 */
+	protected void measure(int threads, final List<JvmDeclaredType> types, final List<String> names, int expected) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			List<Future<Integer>> futures = Lists.newArrayList();
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws Exception {
+						start.await();
+						return lookup(types, names, LOOKUPS_PER_THREAD);
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<Integer> future : futures) {
+				Assert.assertEquals(expected, future.get().intValue());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	protected int lookup(List<JvmDeclaredType> types, List<String> names, int lookups) {
+		int found = 0;
+		int typeCount = types.size();
+		int nameCount = names.size();
+		for (int i = 0; i < lookups; i++) {
+			JvmDeclaredType type = types.get(i % typeCount);
+			if (type.findAllFeaturesByName(names.get(i % nameCount)).iterator().hasNext()) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+}
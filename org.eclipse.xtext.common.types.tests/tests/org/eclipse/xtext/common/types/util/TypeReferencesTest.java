@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.util;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.access.ClasspathTypeProviderFactory;
+import org.eclipse.xtext.common.types.util.TypeReferences.DeclaredTypesCache;
+import org.eclipse.xtext.common.types.xtext.ui.RefactoringTestLanguageInjectorProvider;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+
+@RunWith(XtextRunner.class)
+@InjectWith(RefactoringTestLanguageInjectorProvider.class)
+public class TypeReferencesTest extends Assert {
+
+	@Inject
+	private TypeReferences typeReferences;
+
+	@Test public void testFindDeclaredType_01() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		JvmType type = typeReferences.findDeclaredType(String.class, resourceSet);
+		assertNotNull(type);
+		assertEquals(String.class.getName(), type.getIdentifier());
+		assertSame(type, typeReferences.findDeclaredType(String.class.getName(), resourceSet));
+	}
+
+	@Test public void testFindDeclaredType_02() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		JvmType type = typeReferences.findDeclaredType(String.class, resourceSet);
+		type.eResource().unload();
+		assertTrue(type.eIsProxy());
+		JvmType reloaded = typeReferences.findDeclaredType(String.class, resourceSet);
+		assertNotNull(reloaded);
+		assertNotSame(type, reloaded);
+		assertFalse(reloaded.eIsProxy());
+	}
+
+	@Test public void testFindDeclaredType_03() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		JvmType type = typeReferences.findDeclaredType(String.class, resourceSet);
+		resourceSet.getResources().clear();
+		new ClasspathTypeProviderFactory(getClass().getClassLoader(), null).createTypeProvider(resourceSet);
+		JvmType other = typeReferences.findDeclaredType(String.class, resourceSet);
+		assertNotNull(other);
+		assertNotSame(type, other);
+	}
+
+	@Test public void testFindDeclaredType_04() {
+		ResourceSet first = new ResourceSetImpl();
+		ResourceSet second = new ResourceSetImpl();
+		JvmType type = typeReferences.findDeclaredType(String.class, first);
+		JvmType other = typeReferences.findDeclaredType(String.class, second);
+		assertNotSame(type, other);
+		assertSame(second, other.eResource().getResourceSet());
+	}
+
+	@Test public void testFindDeclaredType_05() throws Exception {
+		final ResourceSet resourceSet = new SynchronizedXtextResourceSet();
+		new ClasspathTypeProviderFactory(getClass().getClassLoader(), null).createTypeProvider(resourceSet);
+		final Class<?>[] classes = { String.class, Object.class, List.class, Integer.class };
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			List<Future<JvmType[]>> futures = Lists.newArrayList();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(new Callable<JvmType[]>() {
+					@Override
+					public JvmType[] call() throws Exception {
+						start.await();
+						JvmType[] result = new JvmType[classes.length];
+						for (int j = 0; j < classes.length; j++) {
+							result[j] = typeReferences.findDeclaredType(classes[j], resourceSet);
+						}
+						return result;
+					}
+				}));
+			}
+			start.countDown();
+			JvmType[] expected = futures.get(0).get();
+			for (Future<JvmType[]> future : futures) {
+				assertArrayEquals(expected, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		int caches = 0;
+		for (Adapter adapter : resourceSet.eAdapters()) {
+			if (adapter instanceof DeclaredTypesCache) {
+				caches++;
+			}
+		}
+		assertEquals(1, caches);
+	}
+
+}
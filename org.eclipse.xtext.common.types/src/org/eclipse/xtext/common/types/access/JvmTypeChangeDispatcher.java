@@ -115,15 +115,33 @@ public class JvmTypeChangeDispatcher extends AdapterImpl {
 	}
 	
 	public void requestNotificationOnChange(Notifier notifier, Runnable runnable) {
+		addNotificationDispatcher(notifier);
+		synchronized (listeners) {
+			listeners.add(runnable);
+		}
+	}
+	
+	/**
+	 * Registers the runnable only once and runs it as soon as any of the given notifiers changes.
+	 * 
+	 * @since 2.11
+	 */
+	public void requestNotificationOnChange(Iterable<? extends Notifier> notifiers, Runnable runnable) {
+		for(Notifier notifier: notifiers) {
+			addNotificationDispatcher(notifier);
+		}
+		synchronized (listeners) {
+			listeners.add(runnable);
+		}
+	}
+	
+	private void addNotificationDispatcher(Notifier notifier) {
 		NotificationDispatcher result = (NotificationDispatcher) EcoreUtil.getAdapter(
 				notifier.eAdapters(), NotificationDispatcher.class);
 		if (result == null) {
 			result = new NotificationDispatcher(notifier);
 			notifier.eAdapters().add(result);
 		}
-		synchronized (listeners) {
-			listeners.add(runnable);
-		}
 	}
 	
 	@Override
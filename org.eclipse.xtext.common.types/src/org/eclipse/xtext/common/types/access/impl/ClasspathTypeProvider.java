@@ -31,6 +31,8 @@ import org.eclipse.xtext.common.types.access.binary.BinaryClassMirror;
 import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
 import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess.UnknownNestedTypeException;
 import org.eclipse.xtext.util.Strings;
+import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
 
 /**
  * @author Sebastian Zarnekow - Initial contribution and API
@@ -185,13 +187,17 @@ public class ClasspathTypeProvider extends AbstractRuntimeJvmTypeProvider {
 	
 	@Override
 	public JvmType findTypeByName(String name) {
+		StoppedTask task = Stopwatches.forTask("ClasspathTypeProvider.findTypeByName");
 		try {
+			task.start();
 			// seems to be the only reliable way to locate nested types
 			// since dollar signs are a quite good indicator but not necessarily the best
 			BinaryClass clazz = classFinder.forName(name);
 			return findTypeByClass(clazz);
 		} catch (ClassNotFoundException e) {
 			return tryFindTypeInIndex(name, true);
+		} finally {
+			task.stop();
 		}
 	}
 	
@@ -210,7 +216,13 @@ public class ClasspathTypeProvider extends AbstractRuntimeJvmTypeProvider {
 		if (isBinaryNestedTypeDelimiter(name, binaryNestedTypeDelimiter)) {
 			return findTypeByName(name);
 		}
-		return doFindTypeByName(name);
+		StoppedTask task = Stopwatches.forTask("ClasspathTypeProvider.findTypeByName");
+		try {
+			task.start();
+			return doFindTypeByName(name);
+		} finally {
+			task.stop();
+		}
 	}
 
 	private JvmType doFindTypeByName(String name) {
@@ -14,6 +14,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notifier;
@@ -54,6 +55,7 @@ import org.eclipse.xtext.util.Strings;
 import org.eclipse.xtext.util.concurrent.IUnitOfWork;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -223,13 +225,18 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 		return internalGetAllNestedTypesMap(null);
 	}
 	
-	protected Map<String, Set<JvmDeclaredType>> allNestedTypesByName;
+	/**
+	 * The nested types by name. The map is published once it is completely built
+	 * and is not modified afterwards, thus it may be read without locking.
+	 */
+	protected volatile Map<String, Set<JvmDeclaredType>> allNestedTypesByName;
 
 	protected Map<String, Set<JvmDeclaredType>> internalGetAllNestedTypesMap(final Set<JvmDeclaredType> processedTypes) {
 		try {
-			if (allNestedTypesByName == null) {
+			Map<String, Set<JvmDeclaredType>> result = allNestedTypesByName;
+			if (result == null) {
 				final Set<JvmDeclaredType> processedSuperTypes = processedTypes == null ? Sets.<JvmDeclaredType>newHashSet() : processedTypes;
-				allNestedTypesByName = doSynchronized(new Provider<Map<String, Set<JvmDeclaredType>>>() {
+				result = doSynchronized(new Provider<Map<String, Set<JvmDeclaredType>>>() {
 					@Override
 					public Map<String, Set<JvmDeclaredType>> get() {
 						if (allNestedTypesByName != null)
@@ -253,6 +260,7 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 							}
 						}
 						result.putAll(cumulated);
+						allNestedTypesByName = result;
 						Runnable runnable = new Runnable() {
 							@Override
 							public void run() {
@@ -269,20 +277,30 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 					}
 				});
 			}
-			return allNestedTypesByName;
+			return result;
 		} finally {
 			// see https://bugs.eclipse.org/bugs/show_bug.cgi?id=474238
 			// no caching for Xtext-based resources during indexing
-			if (eResource() instanceof XtextResource) {
-				XtextResource xtextResource = (XtextResource) eResource();
-				CompilerPhases compilerPhases = xtextResource.getResourceServiceProvider().get(CompilerPhases.class);
-				if (compilerPhases.isIndexing(xtextResource.getResourceSet())) {
-					allNestedTypesByName = null;
-				}
+			if (isIndexing()) {
+				allNestedTypesByName = null;
 			}
 		}
 	}
 	
+	/**
+	 * Returns <code>true</code> if this type is contained in an Xtext resource that is currently being indexed.
+	 * Caches that depend on inferred types must not be populated in that phase.
+	 * @since 2.11
+	 */
+	protected boolean isIndexing() {
+		if (eResource() instanceof XtextResource) {
+			XtextResource xtextResource = (XtextResource) eResource();
+			CompilerPhases compilerPhases = xtextResource.getResourceServiceProvider().get(CompilerPhases.class);
+			return compilerPhases.isIndexing(xtextResource.getResourceSet());
+		}
+		return false;
+	}
+	
 	protected void processTypes(Map<String, Set<JvmDeclaredType>> result, Collection<? extends JvmMember> members) {
 		for (JvmMember member : members) {
 			if (member instanceof JvmDeclaredType) {
@@ -297,19 +315,42 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 		}
 	}
 
-	protected Map<String, Set<JvmFeature>> allFeaturesByName;
+	/**
+	 * The features by name. The map is published once it is completely built and its key set is not modified afterwards.
+	 * The values are filtered lazily by {@link #findAllFeaturesByName(String)}.
+	 */
+	protected volatile Map<String, Set<JvmFeature>> allFeaturesByName;
 
-	protected Set<String> removedOverridden;
+	/**
+	 * The names whose features in {@link #allFeaturesByName} are final, i.e. overridden features were removed already.
+	 * The corresponding sets will not be modified anymore and may be read without locking.
+	 */
+	protected volatile Set<String> removedOverridden;
 
 	@Override
 	public Iterable<JvmFeature> findAllFeaturesByName(final String simpleName) {
+		Map<String, Set<JvmFeature>> knownFeaturesByName = allFeaturesByName;
+		if (knownFeaturesByName != null && simpleName != null) {
+			Set<String> knownNames = removedOverridden;
+			// the names are only valid if the map was not replaced in the meantime
+			if (knownNames != null && knownNames.contains(simpleName) && knownFeaturesByName == allFeaturesByName) {
+				Set<JvmFeature> result = knownFeaturesByName.get(simpleName);
+				if (result != null) {
+					return result;
+				}
+			}
+		}
 		return doSynchronized(new Provider<Iterable<JvmFeature>>() {
 			@Override
 			public Iterable<JvmFeature> get() {
 				Map<String, Set<JvmFeature>> allFeaturesByName = getAllFeaturesMap();
 				Set<JvmFeature> result = allFeaturesByName.get(simpleName);
 				if (result != null) {
-					if (result.size() <= 1 || (removedOverridden != null && removedOverridden.contains(simpleName))) {
+					if (simpleName != null && removedOverridden != null && removedOverridden.contains(simpleName)) {
+						return result;
+					}
+					if (result.size() <= 1) {
+						markRemovedOverridden(simpleName);
 						return result;
 					}
 					// TODO use the number of parameters as a first fast criteria
@@ -351,17 +392,30 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 							}
 						}
 					}
-					if (removedOverridden == null) {
-						removedOverridden = Sets.newHashSet(simpleName);
-					} else {
-						removedOverridden.add(simpleName);
-					}
+					markRemovedOverridden(simpleName);
 					return result;
 				}
 				return Collections.emptyList();
 			}
 		});
 	}
+	
+	/**
+	 * Publishes the filtered features for the given name. Has to be called from within {@link #doSynchronized(Provider)}.
+	 */
+	private void markRemovedOverridden(String simpleName) {
+		if (simpleName == null) {
+			return;
+		}
+		Set<String> names = removedOverridden;
+		if (names == null) {
+			names = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+			names.add(simpleName);
+			removedOverridden = names;
+		} else {
+			names.add(simpleName);
+		}
+	}
 
 	protected <T> T doSynchronized(final Provider<? extends T> provider) {
 		Resource eResource = eResource();
@@ -391,9 +445,10 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 	}
 
 	protected Map<String, Set<JvmFeature>> internalGetAllFeaturesMap(final Set<JvmDeclaredType> processedtypes) {
-		if (allFeaturesByName == null) {
+		Map<String, Set<JvmFeature>> result = allFeaturesByName;
+		if (result == null) {
 			final Set<JvmDeclaredType> processedSuperTypes = processedtypes == null ? Sets.<JvmDeclaredType>newHashSet() : processedtypes;
-			allFeaturesByName = doSynchronized(new Provider<Map<String, Set<JvmFeature>>>() {
+			result = doSynchronized(new Provider<Map<String, Set<JvmFeature>>>() {
 				@Override
 				public Map<String, Set<JvmFeature>> get() {
 					if (allFeaturesByName != null)
@@ -412,6 +467,7 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 								processMembers(result, features);
 						}
 					}
+					allFeaturesByName = result;
 					Runnable runnable = new Runnable() {
 						@Override
 						public void run() {
@@ -429,16 +485,49 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 				}
 			});
 		}
-		return allFeaturesByName;
+		return result;
 	}
 
 	protected void requestNotificationOnChange(Runnable listener) {
+		JvmTypeChangeDispatcher dispatcher = findTypeChangeDispatcher();
+		if (dispatcher != null)
+			dispatcher.requestNotificationOnChange(this, listener);
+	}
+	
+	/**
+	 * Registers the listener once per dispatcher and runs it as soon as any of the given types changes.
+	 * 
+	 * @since 2.11
+	 */
+	protected void requestNotificationOnChange(Runnable listener, Iterable<? extends JvmDeclaredTypeImplCustom> types) {
+		Map<JvmTypeChangeDispatcher, List<Notifier>> notifiersByDispatcher = Maps.newLinkedHashMap();
+		for(JvmDeclaredTypeImplCustom type: types) {
+			JvmTypeChangeDispatcher dispatcher = type.findTypeChangeDispatcher();
+			if (dispatcher != null) {
+				List<Notifier> notifiers = notifiersByDispatcher.get(dispatcher);
+				if (notifiers == null) {
+					notifiers = Lists.newArrayListWithCapacity(4);
+					notifiersByDispatcher.put(dispatcher, notifiers);
+				}
+				notifiers.add(type);
+			}
+		}
+		for(Map.Entry<JvmTypeChangeDispatcher, List<Notifier>> entry: notifiersByDispatcher.entrySet()) {
+			entry.getKey().requestNotificationOnChange(entry.getValue(), listener);
+		}
+	}
+	
+	/**
+	 * Returns the dispatcher of this type's resource set or <code>null</code> if the type cannot change.
+	 */
+	/* @Nullable */
+	private JvmTypeChangeDispatcher findTypeChangeDispatcher() {
 		Resource resource = eResource();
 		if (resource instanceof TypeResource) {
 			IMirror mirror = ((TypeResource) resource).getMirror();
 			if (mirror instanceof IMirrorExtension) {
 				if (((IMirrorExtension) mirror).isSealed())
-					return;
+					return null;
 			}
 		}
 		Notifier notifier = this;
@@ -448,8 +537,7 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 			else
 				notifier = resource;
 		}
-		JvmTypeChangeDispatcher dispatcher = JvmTypeChangeDispatcher.findResourceChangeDispatcher(notifier);
-		dispatcher.requestNotificationOnChange(this, listener);
+		return JvmTypeChangeDispatcher.findResourceChangeDispatcher(notifier);
 	}
 	
 	protected void processMembers(Map<String, Set<JvmFeature>> result, Collection<? extends JvmMember> members) {
@@ -466,12 +554,13 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 		}
 	}
 
-	protected Set<JvmFeature> allFeatures;
+	protected volatile Set<JvmFeature> allFeatures;
 
 	@Override
 	public Iterable<JvmFeature> getAllFeatures() {
-		if (allFeatures == null) {
-			allFeatures = doSynchronized(new Provider<Set<JvmFeature>>() {
+		Set<JvmFeature> result = allFeatures;
+		if (result == null) {
+			result = doSynchronized(new Provider<Set<JvmFeature>>() {
 				@Override
 				public Set<JvmFeature> get() {
 					if (allFeatures != null)
@@ -481,6 +570,7 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 					for (String name : allFeaturesMap.keySet()) {
 						Iterables.addAll(result, findAllFeaturesByName(name));
 					}
+					allFeatures = result;
 					Runnable runnable = new Runnable() {
 						@Override
 						public void run() {
@@ -496,7 +586,80 @@ public abstract class JvmDeclaredTypeImplCustom extends JvmDeclaredTypeImpl {
 					return result;
 				}});
 		}
-		return allFeatures;
+		return result;
+	}
+	
+	protected volatile Set<JvmType> allRawSuperTypes;
+	
+	/**
+	 * Returns the transitive closure of the raw super types of this type. The type itself is not part of the result.
+	 * The set is immutable, shared by all clients and iterates in the order of a depth first traversal of the declared super types.
+	 * It is cached on this type and flushed as soon as the type hierarchy changes.
+	 * 
+	 * @see org.eclipse.xtext.common.types.util.RawSuperTypes
+	 * @since 2.11
+	 */
+	public Set<JvmType> getAllRawSuperTypes() {
+		Set<JvmType> result = allRawSuperTypes;
+		if (result == null) {
+			result = doSynchronized(new Provider<Set<JvmType>>() {
+				@Override
+				public Set<JvmType> get() {
+					if (allRawSuperTypes != null)
+						return allRawSuperTypes;
+					Set<JvmType> collected = Sets.newLinkedHashSet();
+					List<JvmDeclaredTypeImplCustom> traversedTypes = Lists.newArrayListWithCapacity(4);
+					collectRawSuperTypes(JvmDeclaredTypeImplCustom.this, collected, traversedTypes);
+					collected.remove(JvmDeclaredTypeImplCustom.this);
+					Set<JvmType> result = ImmutableSet.copyOf(collected);
+					if (!isIndexing()) {
+						allRawSuperTypes = result;
+						Runnable runnable = new Runnable() {
+							@Override
+							public void run() {
+								doSynchronized(new Provider<Object>() {
+									@Override
+									public Object get() {
+										allRawSuperTypes = null;
+										return null;
+									}});
+							}
+						};
+						// changes to any of the traversed types invalidate the closure
+						requestNotificationOnChange(runnable, traversedTypes);
+					}
+					return result;
+				}
+			});
+		}
+		return result;
+	}
+	
+	/**
+	 * Adds the given type and its raw super types to the result. The walk stops at types that
+	 * were already collected and reuses the cached closure of a super type if that one is available.
+	 * Declared types whose super types had to be traversed are added to the list of traversed types.
+	 */
+	private void collectRawSuperTypes(JvmType type, Set<JvmType> result, List<JvmDeclaredTypeImplCustom> traversedTypes) {
+		if (type == null || !result.add(type)) {
+			return;
+		}
+		if (type instanceof JvmDeclaredTypeImplCustom) {
+			JvmDeclaredTypeImplCustom declaredType = (JvmDeclaredTypeImplCustom) type;
+			Set<JvmType> knownSuperTypes = declaredType.allRawSuperTypes;
+			if (knownSuperTypes != null) {
+				result.addAll(knownSuperTypes);
+				return;
+			}
+			traversedTypes.add(declaredType);
+		}
+		if (type instanceof JvmDeclaredType) {
+			for (JvmTypeReference superType : ((JvmDeclaredType) type).getSuperTypes()) {
+				if (superType != null) {
+					collectRawSuperTypes(superType.getType(), result, traversedTypes);
+				}
+			}
+		}
 	}
 	
 	protected String getRawTypeIdentifier(JvmTypeReference reference) {
@@ -14,6 +14,7 @@ import org.eclipse.xtext.common.types.JvmArrayType;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.impl.JvmDeclaredTypeImplCustom;
 
 import com.google.common.collect.Sets;
 
@@ -22,15 +23,25 @@ import com.google.common.collect.Sets;
  */
 public class RawSuperTypes {
 	
+	/**
+	 * Collects the raw super types of the given type. The given type itself is not part of the result.
+	 * The result may be modified by clients.
+	 */
 	public Set<JvmType> collect(JvmType type) {
+		if (type instanceof JvmDeclaredTypeImplCustom) {
+			return Sets.newLinkedHashSet(((JvmDeclaredTypeImplCustom) type).getAllRawSuperTypes());
+		}
 		Set<JvmType> result = new Implementation().collect(type);
 		result.remove(type);
 		return result;
 	}
 	
 	public Set<String> collectNames(JvmType type) {
-		Set<JvmType> superTypes = collect(type);
-		final Set<String> superTypeNames = Sets.newHashSet();
+		// the cached closure of declared types is not copied since it is only read
+		Set<JvmType> superTypes = type instanceof JvmDeclaredTypeImplCustom 
+				? ((JvmDeclaredTypeImplCustom) type).getAllRawSuperTypes() 
+				: collect(type);
+		final Set<String> superTypeNames = Sets.newHashSetWithExpectedSize(superTypes.size());
 		for(JvmType collectedSuperType: superTypes) {
 			superTypeNames.add(collectedSuperType.getIdentifier());
 		}
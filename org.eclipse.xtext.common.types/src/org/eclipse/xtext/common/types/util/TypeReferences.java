@@ -9,10 +9,15 @@ package org.eclipse.xtext.common.types.util;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.common.types.JvmAnyTypeReference;
 import org.eclipse.xtext.common.types.JvmArrayType;
@@ -32,6 +37,7 @@ import org.eclipse.xtext.common.types.JvmWildcardTypeReference;
 import org.eclipse.xtext.common.types.TypesFactory;
 import org.eclipse.xtext.common.types.access.IJvmTypeProvider;
 import org.eclipse.xtext.common.types.access.TypeResource;
+import org.eclipse.xtext.resource.ISynchronizable;
 import org.eclipse.xtext.service.OperationCanceledManager;
 
 import com.google.common.collect.Lists;
@@ -251,8 +257,15 @@ public class TypeReferences {
 			return null;
 		// make sure a type provider is configured in the resource set. 
 		IJvmTypeProvider typeProvider = typeProviderFactory.findOrCreateTypeProvider(resourceSet);
+		DeclaredTypesCache cache = DeclaredTypesCache.findOrCreate(resourceSet, typeProvider);
+		JvmType knownType = cache.get(typeName);
+		if (knownType != null)
+			return knownType;
 		try {
 			final JvmType result = typeProvider.findTypeByName(typeName);
+			if (result != null) {
+				cache.put(typeName, result);
+			}
 			return result;
 		} catch (RuntimeException e) {
 			operationCanceledManager.propagateAsErrorIfCancelException(e);
@@ -261,6 +274,76 @@ public class TypeReferences {
 		}
 	}
 
+	/**
+	 * Caches the types that were found by {@link TypeReferences#findDeclaredType(String, Notifier)} in a resource set.
+	 * Only types from {@link TypeResource type resources} are cached. The cache is discarded if the resource set
+	 * uses another {@link IJvmTypeProvider} and cached types that were unloaded in the meantime are ignored.
+	 * 
+	 * The cache does not observe the index. If a source type with the same qualified name as a cached binary
+	 * type appears later on, e.g. in a newly created resource, the binary type is still returned until it
+	 * is unloaded or the type provider changes.
+	 * 
+	 * @since 2.11
+	 */
+	protected static class DeclaredTypesCache extends AdapterImpl {
+		
+		/**
+		 * Returns the cache of the given resource set. An existing cache is returned without locking. A new
+		 * cache is attached while the lock of the resource set is held, since types may be looked up from
+		 * several threads.
+		 */
+		public static DeclaredTypesCache findOrCreate(ResourceSet resourceSet, IJvmTypeProvider typeProvider) {
+			DeclaredTypesCache existing = (DeclaredTypesCache) EcoreUtil.getAdapter(resourceSet.eAdapters(), DeclaredTypesCache.class);
+			if (existing != null && existing.typeProvider == typeProvider) {
+				return existing;
+			}
+			Object lock = resourceSet instanceof ISynchronizable<?> ? ((ISynchronizable<?>) resourceSet).getLock() : resourceSet;
+			synchronized (lock) {
+				DeclaredTypesCache result = (DeclaredTypesCache) EcoreUtil.getAdapter(resourceSet.eAdapters(), DeclaredTypesCache.class);
+				if (result == null || result.typeProvider != typeProvider) {
+					if (result != null) {
+						resourceSet.eAdapters().remove(result);
+					}
+					result = new DeclaredTypesCache(typeProvider);
+					resourceSet.eAdapters().add(result);
+				}
+				return result;
+			}
+		}
+		
+		private final IJvmTypeProvider typeProvider;
+		
+		private final Map<String, JvmType> types = new ConcurrentHashMap<String, JvmType>();
+		
+		protected DeclaredTypesCache(IJvmTypeProvider typeProvider) {
+			this.typeProvider = typeProvider;
+		}
+		
+		/* @Nullable */
+		public JvmType get(String typeName) {
+			JvmType result = types.get(typeName);
+			if (result != null) {
+				Resource resource = result.eResource();
+				if (result.eIsProxy() || resource == null || resource.getResourceSet() != getTarget()) {
+					types.remove(typeName);
+					return null;
+				}
+			}
+			return result;
+		}
+		
+		public void put(String typeName, JvmType type) {
+			if (type.eResource() instanceof TypeResource) {
+				types.put(typeName, type);
+			}
+		}
+		
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return DeclaredTypesCache.class == type;
+		}
+	}
+
 	public boolean is(final JvmTypeReference reference, final Class<?> clazz) {
 		if (isNullOrProxy(reference))
 			return false;
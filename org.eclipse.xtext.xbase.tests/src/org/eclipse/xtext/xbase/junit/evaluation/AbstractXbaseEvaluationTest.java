@@ -800,6 +800,26 @@ public abstract class AbstractXbaseEvaluationTest extends Assert {
 		assertEvaluatesTo(new Boolean(false), "3>=4");
 	}
 
+	@Test public void testArithmeticOnWrappers_01() throws Exception {
+		assertEvaluatesTo(new Double(3), "{ val Double a = 1.5 val Integer b = 2 a * b }");
+	}
+
+	@Test public void testArithmeticOnWrappers_02() throws Exception {
+		assertEvaluatesTo(new Double(-1.5), "{ val Double a = 1.5 val Double b = -a b }");
+	}
+
+	@Test public void testArithmeticOnWrappers_03() throws Exception {
+		assertEvaluatesWithException(NullPointerException.class, "{ val Double a = null val Integer b = 2 a + b }");
+	}
+
+	@Test public void testComparisonOnWrappers_01() throws Exception {
+		assertEvaluatesTo(new Boolean(true), "{ val Integer a = 1 val Integer b = 2 a < b }");
+	}
+
+	@Test public void testComparisonOnWrappers_02() throws Exception {
+		assertEvaluatesTo(new Boolean(false), "{ val Long a = 1L val Long b = 2L a >= b }");
+	}
+
 	@Test public void testOrOnBooleans_01() throws Exception {
 		assertEvaluatesTo(new Boolean(true), "true||false");
 	}
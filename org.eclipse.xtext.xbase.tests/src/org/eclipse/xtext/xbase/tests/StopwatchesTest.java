@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.eclipse.xtext.testing.validation.ValidationTestHelper;
+import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.xbase.XCastedExpression;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.validation.XbaseValidator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Inject;
+
+public class StopwatchesTest extends AbstractXbaseTestCase {
+
+	@Inject
+	private ValidationTestHelper helper;
+
+	@Before
+	public void enableStopwatches() {
+		Stopwatches.setEnabled(true);
+		Stopwatches.resetAll();
+	}
+
+	@After
+	public void disableStopwatches() {
+		Stopwatches.resetAll();
+		Stopwatches.setEnabled(false);
+	}
+
+	@Test public void testPhasesAreMeasured() throws Exception {
+		XExpression expression = expression("{ val list = newArrayList('a') (list.head as CharSequence).length }");
+		helper.assertNoErrors(expression);
+		Map<String, Stopwatches.NumbersForTask> numbers = Stopwatches.allNumbers();
+		assertTrue(numbers.keySet().toString(), numbers.containsKey("CachingBatchTypeResolver.resolveTypes"));
+		assertTrue(numbers.keySet().toString(), numbers.containsKey("ClasspathTypeProvider.findTypeByName"));
+		assertTrue(numbers.keySet().toString(), numbers.containsKey("XbaseBatchScopeProvider.getScope"));
+	}
+	
+	@Test public void testCheckMethodsAreMeasuredIfEnabled() throws Exception {
+		Method checkCasts = XbaseValidator.class.getMethod("checkCasts", XCastedExpression.class);
+		TestValidator validator = new TestValidator();
+		assertTrue(validator.isMeasured(checkCasts));
+		assertTrue(Stopwatches.allNumbers().containsKey("XbaseValidator.checkCasts"));
+		Stopwatches.setEnabled(false);
+		assertFalse(validator.isMeasured(checkCasts));
+	}
+	
+	public static class TestValidator extends XbaseValidator {
+		public boolean isMeasured(Method method) {
+			return createMethodWrapper(this, method) instanceof StopwatchMethodWrapper;
+		}
+	}
+
+}
@@ -7,6 +7,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.tests.compiler;
 
+import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -725,4 +726,88 @@ public class CompilerTest extends AbstractOutputComparingCompilerTests {
 						"  org.eclipse.xtext.xbase.lib.InputOutput.<String>println(i);\n}",
 				"for (i : #['a','b','c']) { println(i) }");
 	}
+	
+	protected GeneratorConfig foldConstantExpressions() {
+		GeneratorConfig result = new GeneratorConfig();
+		result.setFoldConstantExpressions(true);
+		return result;
+	}
+	
+	@Test public void testFoldConstantExpressions_01() throws Exception {
+		assertCompilesTo("return 3600000;", "60 * 60 * 1000", foldConstantExpressions());
+		assertCompilesTo("return ((60 * 60) * 1000);", "60 * 60 * 1000");
+	}
+	
+	@Test public void testFoldConstantExpressions_02() throws Exception {
+		assertCompilesTo("return \"ab1\\n\";", "'a' + 'b' + 1 + '\n'", foldConstantExpressions());
+		assertCompilesTo("return 9223372036854775806L;", "Long.MAX_VALUE - 1", foldConstantExpressions());
+		assertCompilesTo("return (-7);", "-(3 + 4)", foldConstantExpressions());
+		assertCompilesTo("return 0.75;", "1.5 / 2", foldConstantExpressions());
+		assertCompilesTo("return true;", "3 > 2 && !false", foldConstantExpressions());
+	}
+	
+	@Test public void testFoldConstantExpressions_03() throws Exception {
+		assertCompilesTo(
+				"java.util.ArrayList<Object> _newArrayList = org.eclipse.xtext.xbase.lib.CollectionLiterals.<Object>newArrayList();\n" + 
+				"int _size = _newArrayList.size();\n" + 
+				"int _plus = (_size + 3600);\n" + 
+				"return _plus;",
+				"newArrayList.size + 60 * 60", foldConstantExpressions());
+	}
+	
+	@Test public void testFoldConstantExpressions_04() throws Exception {
+		assertCompilesTo("return (10 / 0);", "10 / 0", foldConstantExpressions());
+		assertCompilesTo("return (1.0 / 0);", "1.0 / 0", foldConstantExpressions());
+		assertCompilesTo("return (1.0 == 1.0);", "1.0 == 1.0", foldConstantExpressions());
+		assertCompilesTo("return (java.io.File.separator + \"x\");", "java.io.File.separator + 'x'", foldConstantExpressions());
+	}
+	
+	@Test public void testPrimitiveOperationOnWrappers_01() throws Exception {
+		assertCompilesTo(
+				"double _xblockexpression = (double) 0;\n" + 
+				"{\n" + 
+				"  final Double a = Double.valueOf(1.0);\n" + 
+				"  final Integer b = Integer.valueOf(2);\n" + 
+				"  _xblockexpression = ((a).doubleValue() + (b).intValue());\n" + 
+				"}\n" + 
+				"return _xblockexpression;", 
+				"{ val Double a = 1.0 val Integer b = 2 a + b }");
+	}
+	
+	@Test public void testPrimitiveOperationOnWrappers_02() throws Exception {
+		assertCompilesTo(
+				"double _xblockexpression = (double) 0;\n" + 
+				"{\n" + 
+				"  final Double a = Double.valueOf(1.0);\n" + 
+				"  final Double b = Double.valueOf(2.0);\n" + 
+				"  final double c = (-(a).doubleValue());\n" + 
+				"  _xblockexpression = (c / (b).doubleValue());\n" + 
+				"}\n" + 
+				"return _xblockexpression;", 
+				"{ val Double a = 1.0 val Double b = 2.0 val c = -a c / b }");
+	}
+	
+	@Test public void testPrimitiveOperationOnWrappers_03() throws Exception {
+		assertCompilesTo(
+				"boolean _xblockexpression = false;\n" + 
+				"{\n" + 
+				"  final Integer a = Integer.valueOf(1);\n" + 
+				"  final Integer b = Integer.valueOf(2);\n" + 
+				"  _xblockexpression = ((a).intValue() < (b).intValue());\n" + 
+				"}\n" + 
+				"return _xblockexpression;", 
+				"{ val Integer a = 1 val Integer b = 2 a < b }");
+	}
+	
+	@Test public void testPrimitiveOperationOnWrappers_04() throws Exception {
+		assertCompilesTo(
+				"boolean _xblockexpression = false;\n" + 
+				"{\n" + 
+				"  final Double a = Double.valueOf(1.0);\n" + 
+				"  final Double b = Double.valueOf(2.0);\n" + 
+				"  _xblockexpression = (a.compareTo(b) < 0);\n" + 
+				"}\n" + 
+				"return _xblockexpression;", 
+				"{ val Double a = 1.0 val Double b = 2.0 a < b }");
+	}
 }
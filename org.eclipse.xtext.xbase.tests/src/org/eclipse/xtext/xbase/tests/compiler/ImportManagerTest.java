@@ -7,6 +7,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.tests.compiler;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.xtext.common.types.JvmDeclaredType;
@@ -18,6 +19,7 @@ import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 
 /**
@@ -77,5 +79,34 @@ public class ImportManagerTest extends AbstractXbaseTestCase {
 		assertEquals("List", importManager.serialize(string).toString());
 		assertTrue(importManager.getImports().contains("java.util.List"));
 	}
-	
+
+	@Test public void testConflictingSimpleNames() throws Exception {
+		JvmType utilList = typeReferences.findDeclaredType(List.class, expression);
+		JvmType awtList = typeReferences.findDeclaredType(java.awt.List.class, expression);
+		for (int i = 0; i < 2; i++) {
+			assertEquals("List", importManager.serialize(utilList).toString());
+			assertEquals("java.awt.List", importManager.serialize(awtList).toString());
+			assertEquals("List[]", importManager.serialize(typeReferences.createArrayType(typeReferences.createTypeRef(utilList)).getType()).toString());
+		}
+		assertEquals(Collections.singletonList("java.util.List"), importManager.getImports());
+	}
+
+	@Test public void testTypeNamesAreComputedOnce() throws Exception {
+		final List<JvmType> computed = Lists.newArrayList();
+		ImportManager countingImportManager = new ImportManager(true, fooClass) {
+			@Override
+			protected void appendDeclaredType(JvmType type, StringBuilder builder) {
+				computed.add(type);
+				super.appendDeclaredType(type, builder);
+			}
+		};
+		JvmType utilList = typeReferences.findDeclaredType(List.class, expression);
+		JvmType string = typeReferences.findDeclaredType(String.class, expression);
+		for (int i = 0; i < 3; i++) {
+			assertEquals("List", countingImportManager.serialize(utilList).toString());
+			assertEquals("String", countingImportManager.serialize(string).toString());
+		}
+		assertEquals(Lists.newArrayList(utilList, string), computed);
+	}
+
 }
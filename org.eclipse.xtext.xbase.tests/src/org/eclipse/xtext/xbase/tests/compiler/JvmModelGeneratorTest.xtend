@@ -13,6 +13,7 @@ import foo.TestAnnotation2
 import foo.TestAnnotations
 import java.lang.reflect.Modifier
 import java.util.AbstractList
+import java.util.List
 import org.eclipse.emf.ecore.EObject
 import org.eclipse.emf.ecore.resource.Resource
 import org.eclipse.xtext.common.types.JvmDeclaredType
@@ -25,7 +26,9 @@ import org.eclipse.xtext.generator.InMemoryFileSystemAccess
 import org.eclipse.xtext.testing.InjectWith
 import org.eclipse.xtext.testing.XtextRunner
 import org.eclipse.xtext.testing.validation.ValidationTestHelper
+import org.eclipse.xtext.util.JavaVersion
 import org.eclipse.xtext.xbase.testing.TemporaryFolder
+import org.eclipse.xtext.xbase.compiler.GeneratorConfig
 import org.eclipse.xtext.xbase.compiler.JvmModelGenerator
 import org.eclipse.xtext.xbase.testing.OnTheFlyJavaCompiler2
 import org.eclipse.xtext.xbase.jvmmodel.JvmModelCompleter
@@ -540,6 +543,68 @@ class JvmModelGeneratorTest extends AbstractXbaseTestCase {
 		assertTrue(Modifier::isNative(compiled.getMethod("nativeMethod").modifiers))
 	}
 
+	@Test def void testHoistedClosure_01() {
+		val expression = expression("newArrayList('a', 'bb').map[ length ]", false)
+		val clazz = expression.toClass("my.test.Foo") [
+			members += expression.toMethod("doStuff", expression.typeRef(List, Integer)) [
+				body = expression
+			]
+		]
+		val code = expression.eResource.generate(clazz, hoistNonCapturingClosures)
+		assertTrue(code, code.contains("private static final Function1<String, Integer> _function = new Function1<String, Integer>() {"))
+		assertTrue(code, code.contains("Foo._function)"))
+		val compiledClass = expression.eResource.compileToClass(clazz, code)
+		assertEquals(#[1, 2], compiledClass.getMethod("doStuff").invoke(compiledClass.newInstance))
+	}
+	
+	@Test def void testHoistedClosure_02() {
+		val expression = expression("{ val x = 1 newArrayList(1, 2).map[ it + 1 ].map[ it + x ] }", false)
+		val clazz = expression.toClass("my.test.Foo") [
+			members += expression.toField("_function", expression.typeRef(String))
+			members += expression.toMethod("doStuff", expression.typeRef(List, Integer)) [
+				body = expression
+			]
+		]
+		val code = expression.eResource.generate(clazz, hoistNonCapturingClosures)
+		assertTrue(code, code.contains("private static final Function1<Integer, Integer> _function_1 = "))
+		assertTrue(code, code.contains("final Function1<Integer, Integer> _function = new Function1<Integer, Integer>() {"))
+		val compiledClass = expression.eResource.compileToClass(clazz, code)
+		assertEquals(#[3, 4], compiledClass.getMethod("doStuff").invoke(compiledClass.newInstance))
+	}
+	
+	@Test def void testHoistedClosure_03() {
+		val expression = expression("newArrayList('a', 'bb').map[ newArrayList(it).map[ length ] ]", false)
+		val clazz = expression.toClass("my.test.Foo") [
+			members += expression.toMethod("doStuff", expression.typeRef(Object)) [
+				body = expression
+			]
+		]
+		val code = expression.eResource.generate(clazz, hoistNonCapturingClosures)
+		assertTrue(code, code.contains("private static final Function1<String, List<Integer>> _function = "))
+		assertTrue(code, code.contains("private static final Function1<String, Integer> _function_1 = "))
+		val compiledClass = expression.eResource.compileToClass(clazz, code)
+		assertEquals(#[#[1], #[2]], compiledClass.getMethod("doStuff").invoke(compiledClass.newInstance))
+	}
+	
+	@Test def void testHoistedClosure_04() {
+		val expression = expression("newArrayList('a', 'bb').map[ length ]", false)
+		val clazz = expression.toClass("my.test.Foo") [
+			members += expression.toMethod("doStuff", expression.typeRef(List, Integer)) [
+				body = expression
+			]
+		]
+		val config = hoistNonCapturingClosures
+		config.javaSourceVersion = JavaVersion.JAVA8
+		val code = expression.eResource.generate(clazz, config)
+		assertFalse(code, code.contains("static"))
+	}
+	
+	def GeneratorConfig hoistNonCapturingClosures() {
+		val result = new GeneratorConfig
+		result.hoistNonCapturingClosures = true
+		return result
+	}
+	
 	def JvmTypeReference typeRef(EObject ctx, Class<?> clazz) {
 		return references.getTypeForName(clazz, ctx)
 	}
@@ -560,6 +625,13 @@ class JvmModelGeneratorTest extends AbstractXbaseTestCase {
 		fsa.files.get(IFileSystemAccess::DEFAULT_OUTPUT + type.identifier.replace('.','/')+".java").toString
 	}
 	
+	def generate(Resource res, JvmDeclaredType type, GeneratorConfig config) {
+		res.eSetDeliver(false)
+		res.contents += type
+		res.eSetDeliver(true)
+		generator.generateType(type, config).toString
+	}
+	
 	def compileToClass(Resource res, JvmDeclaredType type, String code) {
 		val compiledClass = javaCompiler.compileToClass(type.identifier, code)
 		helper.assertNoErrors(res.contents.head)
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.compiler.output;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.xtext.generator.trace.AbstractTraceRegion;
+import org.eclipse.xtext.generator.trace.ITraceRegionProvider;
+import org.eclipse.xtext.generator.trace.ITraceURIConverter;
+import org.eclipse.xtext.generator.trace.LineMappingProvider;
+import org.eclipse.xtext.generator.trace.TraceRegionSerializer;
+import org.eclipse.xtext.resource.ILocationInFileProvider;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.compiler.ImportManager;
+import org.eclipse.xtext.xbase.compiler.XbaseCompiler;
+import org.eclipse.xtext.xbase.compiler.output.CompactTraceRegion;
+import org.eclipse.xtext.xbase.compiler.output.TraceCompactingInMemoryFileSystemAccess;
+import org.eclipse.xtext.xbase.compiler.output.TreeAppendable;
+import org.eclipse.xtext.xbase.jvmmodel.IJvmModelAssociations;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.junit.Test;
+
+import com.google.inject.Inject;
+
+public class CompactTraceRegionTest extends AbstractXbaseTestCase {
+
+	@Inject
+	private ITraceURIConverter converter;
+
+	@Inject
+	private ILocationInFileProvider locationProvider;
+
+	@Inject
+	private IJvmModelAssociations jvmModelAssociations;
+
+	@Inject
+	private IBatchTypeResolver typeResolver;
+
+	@Inject
+	private XbaseCompiler compiler;
+
+	@Inject
+	private LineMappingProvider lineMappingProvider;
+
+	@Inject
+	private TraceRegionSerializer traceRegionSerializer;
+
+	protected AbstractTraceRegion getTraceRegion(String expression) throws Exception {
+		return compile(expression).getTraceRegion();
+	}
+
+	protected TreeAppendable compile(String expression) throws Exception {
+		XExpression model = expression(expression, true);
+		TreeAppendable appendable = new TreeAppendable(new ImportManager(true), converter, locationProvider, jvmModelAssociations, model, "  ", "\n");
+		compiler.compile(model, appendable, typeResolver.resolveTypes(model).getReturnType(model));
+		return appendable;
+	}
+
+	protected void assertSameRegions(AbstractTraceRegion expected, AbstractTraceRegion actual) {
+		TreeIterator<AbstractTraceRegion> expectedRegions = expected.treeIterator();
+		Iterator<AbstractTraceRegion> actualRegions = actual.treeIterator();
+		while(expectedRegions.hasNext()) {
+			assertTrue(actualRegions.hasNext());
+			AbstractTraceRegion expectedRegion = expectedRegions.next();
+			AbstractTraceRegion actualRegion = actualRegions.next();
+			assertEquals(expectedRegion.getMyRegion(), actualRegion.getMyRegion());
+			assertEquals(expectedRegion.isUseForDebugging(), actualRegion.isUseForDebugging());
+			assertEquals(expectedRegion.getAssociatedLocations(), actualRegion.getAssociatedLocations());
+			assertEquals(expectedRegion.getNestedRegions().size(), actualRegion.getNestedRegions().size());
+		}
+		assertFalse(actualRegions.hasNext());
+	}
+
+	@Test public void testSameRegions() throws Exception {
+		AbstractTraceRegion traceRegion = getTraceRegion("{ val x = newArrayList('a', 'b') for (s : x) { println(s.length + 1) } x.map[ toUpperCase ] }");
+		CompactTraceRegion compact = CompactTraceRegion.compact(traceRegion);
+		assertTrue(compact.getNestedRegions().size() > 0);
+		assertNull(compact.getParent());
+		assertSameRegions(traceRegion, compact);
+		assertEquals(traceRegion.getAssociatedSrcRelativePath(), compact.getAssociatedSrcRelativePath());
+		assertEquals(1, compact.getSourcePaths().size());
+	}
+
+	@Test public void testSameLineMapping() throws Exception {
+		AbstractTraceRegion traceRegion = getTraceRegion("{\n val x = 1\n if (x > 0) {\n println(x)\n }\n x + 1\n}");
+		CompactTraceRegion compact = CompactTraceRegion.compact(traceRegion);
+		assertFalse(lineMappingProvider.getLineMapping(traceRegion).isEmpty());
+		assertEquals(lineMappingProvider.getLineMapping(traceRegion), lineMappingProvider.getLineMapping(compact));
+	}
+
+	@Test public void testSerialization() throws Exception {
+		AbstractTraceRegion traceRegion = getTraceRegion("{ val x = 'a' + 'b' x.length }");
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		traceRegionSerializer.writeTraceRegionTo(traceRegion, expected);
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		traceRegionSerializer.writeTraceRegionTo(CompactTraceRegion.compact(traceRegion), actual);
+		assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+		AbstractTraceRegion deserialized = traceRegionSerializer.readTraceRegionFrom(new ByteArrayInputStream(actual.toByteArray()));
+		assertSameRegions(deserialized, CompactTraceRegion.compact(deserialized));
+	}
+
+	@Test public void testInMemoryFileSystemAccess() throws Exception {
+		TreeAppendable appendable = compile("{ val x = newArrayList('a', 'b') x.map[ toUpperCase ] }");
+		TraceCompactingInMemoryFileSystemAccess fsa = new TraceCompactingInMemoryFileSystemAccess();
+		fsa.generateFile("foo/Bar.java", appendable);
+		CharSequence contents = fsa.getTextFiles().values().iterator().next();
+		assertFalse(contents instanceof TreeAppendable);
+		assertEquals(appendable.getContent(), contents.toString());
+		AbstractTraceRegion traceRegion = ((ITraceRegionProvider) contents).getTraceRegion();
+		assertTrue(traceRegion instanceof CompactTraceRegion);
+		assertSameRegions(appendable.getTraceRegion(), traceRegion);
+	}
+
+}
@@ -10,6 +10,7 @@ package org.eclipse.xtext.xbase.tests.compiler.output;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,7 +24,9 @@ import org.eclipse.xtext.generator.trace.internal.AbstractTrace;
 import org.eclipse.xtext.resource.ILocationInFileProvider;
 import org.eclipse.xtext.util.TextRegion;
 import org.eclipse.xtext.workspace.IProjectConfig;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
 import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.compiler.ImportManager;
 import org.eclipse.xtext.xbase.compiler.XbaseCompiler;
 import org.eclipse.xtext.xbase.compiler.output.TreeAppendable;
@@ -33,6 +36,8 @@ import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 import org.junit.Test;
 
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
 import com.google.inject.Inject;
 
 /**
@@ -1082,9 +1087,66 @@ public class CompilerTraceTest extends AbstractXbaseTestCase {
 				"switch s:'' { #String case s.length == 0: ''# }");
 	}
 	
+	@Test
+	public void testFoldedConstant_01() throws Exception {
+		assertTrace("\nreturn #3600000#;", "#60 * 60 * 1000#", foldConstantExpressions());
+	}
+	
+	@Test
+	public void testFoldedConstant_02() throws Exception {
+		assertTrace("\nreturn 36#000#00;", "#60 * 60 * 1000#", foldConstantExpressions());
+	}
+	
+	@Test
+	public void testFoldedConstant_03() throws Exception {
+		assertTrace( 
+				"\nArrayList<Object> _newArrayList = CollectionLiterals.<Object>newArrayList();\n" + 
+				"int _size = _newArrayList.size();\n" + 
+				"int _plus = (_size + #3600#);\n" + 
+				"return _plus;", 
+				"newArrayList.size + #60 * 60#", foldConstantExpressions());
+	}
+	
+	public static class CountingXbaseCompiler extends XbaseCompiler {
+		private final Multiset<XAbstractFeatureCall> computed = HashMultiset.create();
+
+		@Override
+		protected String computeFoldedConstant(XAbstractFeatureCall featureCall) {
+			computed.add(featureCall);
+			return super.computeFoldedConstant(featureCall);
+		}
+	}
+
+	@Test
+	public void testFoldedConstant_04() throws Exception {
+		XExpression model = expression("newArrayList.size + 60 * 60 + -(2 * 3)", true);
+		TreeAppendable appendable = new TreeAppendable(new ImportManager(true), converter, locationProvider, jvmModelAssociations, model, "  ", "\n");
+		appendable.getState().setGeneratorConfig(foldConstantExpressions());
+		CountingXbaseCompiler compiler = get(CountingXbaseCompiler.class);
+		compiler.compile(model, appendable, typeResolver.resolveTypes(model).getReturnType(model));
+		assertTrue(appendable.getContent(), appendable.getContent().contains("(_size + 3600)"));
+		assertTrue(appendable.getContent(), appendable.getContent().contains("(-6)"));
+		Map<XExpression, String> foldedConstants = appendable.getState().getFoldedConstants();
+		assertEquals(4, foldedConstants.size());
+		assertEquals(foldedConstants.keySet(), compiler.computed.elementSet());
+		assertEquals(foldedConstants.size(), compiler.computed.size());
+		assertTrue(foldedConstants.containsValue("3600"));
+		assertTrue(foldedConstants.containsValue(null));
+	}
+
+	protected GeneratorConfig foldConstantExpressions() {
+		GeneratorConfig result = new GeneratorConfig();
+		result.setFoldConstantExpressions(true);
+		return result;
+	}
+	
 	private static final Pattern p = Pattern.compile("([^#]*)#([^#]*)#([^#]*)", Pattern.DOTALL);
 	
 	protected void assertTrace(final String javaCodeWithMarker, String xbaseCodeWithMarker) throws Exception {
+		assertTrace(javaCodeWithMarker, xbaseCodeWithMarker, null);
+	}
+	
+	protected void assertTrace(final String javaCodeWithMarker, String xbaseCodeWithMarker, /* @Nullable */ GeneratorConfig generatorConfig) throws Exception {
 		xbaseCodeWithMarker = " " + xbaseCodeWithMarker + " ";
 		Matcher xbaseMatcher = p.matcher(xbaseCodeWithMarker);
 		assertTrue(xbaseMatcher.matches());
@@ -1094,6 +1156,7 @@ public class CompilerTraceTest extends AbstractXbaseTestCase {
 		String actualCode = xbaseGroup1 + xbaseGroup2 + xbaseGroup3; 
 		XExpression model = expression(actualCode,true);
 		TreeAppendable appendable = new TreeAppendable(new ImportManager(true), converter, locationProvider, jvmModelAssociations, model, "  ", "\n");
+		appendable.getState().setGeneratorConfig(generatorConfig);
 		XbaseCompiler compiler = get(XbaseCompiler.class);
 		LightweightTypeReference returnType = typeResolver.resolveTypes(model).getReturnType(model);
 		if (returnType == null) {
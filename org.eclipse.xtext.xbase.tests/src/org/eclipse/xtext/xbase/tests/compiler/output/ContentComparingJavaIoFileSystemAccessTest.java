@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.compiler.output;
+
+import java.io.File;
+
+import org.eclipse.xtext.xbase.compiler.output.ContentComparingJavaIoFileSystemAccess;
+import org.eclipse.xtext.xbase.testing.TemporaryFolder;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+public class ContentComparingJavaIoFileSystemAccessTest extends AbstractXbaseTestCase {
+
+	@Rule
+	@Inject public TemporaryFolder temporaryFolder;
+
+	@Inject
+	private Provider<ContentComparingJavaIoFileSystemAccess> fsaProvider;
+
+	@Test public void testUnchangedFileIsNotWritten() throws Exception {
+		File root = temporaryFolder.newFolder();
+		ContentComparingJavaIoFileSystemAccess fsa = fsaProvider.get();
+		fsa.setOutputPath(root.getAbsolutePath());
+		fsa.generateFile("foo/Bar.java", "class Bar {}");
+		File file = new File(root, "foo/Bar.java");
+		assertTrue(file.setLastModified(1000));
+		fsa.generateFile("foo/Bar.java", "class Bar {}");
+		assertEquals(1000, file.lastModified());
+		assertEquals("class Bar {}", Files.toString(file, Charsets.UTF_8));
+	}
+
+	@Test public void testChangedFileIsWritten() throws Exception {
+		File root = temporaryFolder.newFolder();
+		ContentComparingJavaIoFileSystemAccess fsa = fsaProvider.get();
+		fsa.setOutputPath(root.getAbsolutePath());
+		fsa.generateFile("foo/Bar.java", "class Bar {}");
+		File file = new File(root, "foo/Bar.java");
+		assertTrue(file.setLastModified(1000));
+		fsa.generateFile("foo/Bar.java", "class Baz {}");
+		assertTrue(file.lastModified() != 1000);
+		assertEquals("class Baz {}", Files.toString(file, Charsets.UTF_8));
+		fsa.generateFile("foo/Bar.java", "class Bar { }");
+		assertEquals("class Bar { }", Files.toString(file, Charsets.UTF_8));
+	}
+
+	@Test public void testShorterFileIsTruncated() throws Exception {
+		File root = temporaryFolder.newFolder();
+		ContentComparingJavaIoFileSystemAccess fsa = fsaProvider.get();
+		fsa.setOutputPath(root.getAbsolutePath());
+		fsa.generateFile("foo/Bar.java", "class Bar {}\n");
+		File file = new File(root, "foo/Bar.java");
+		assertTrue(file.setLastModified(1000));
+		fsa.generateFile("foo/Bar.java", "class Bar {}");
+		assertTrue(file.lastModified() != 1000);
+		assertEquals("class Bar {}", Files.toString(file, Charsets.UTF_8));
+	}
+
+	@Test public void testLargeFile() throws Exception {
+		StringBuilder content = new StringBuilder("class Bar {\n");
+		for (int i = 0; i < 10000; i++) {
+			content.append("\tint field").append(i).append(" = ").append(i).append(";\n");
+		}
+		content.append("}");
+		File root = temporaryFolder.newFolder();
+		ContentComparingJavaIoFileSystemAccess fsa = fsaProvider.get();
+		fsa.setOutputPath(root.getAbsolutePath());
+		fsa.generateFile("foo/Bar.java", content);
+		File file = new File(root, "foo/Bar.java");
+		assertTrue(file.setLastModified(1000));
+		fsa.generateFile("foo/Bar.java", content);
+		assertEquals(1000, file.lastModified());
+		String changed = content.toString().replace("field5000 = 5000", "field5000 = -5000");
+		fsa.generateFile("foo/Bar.java", changed);
+		assertTrue(file.lastModified() != 1000);
+		assertEquals(changed, Files.toString(file, Charsets.UTF_8));
+	}
+
+}
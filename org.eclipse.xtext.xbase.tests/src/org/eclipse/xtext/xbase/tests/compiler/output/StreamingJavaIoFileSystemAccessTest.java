@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.compiler.output;
+
+import java.io.File;
+import java.util.List;
+
+import org.eclipse.xtext.generator.trace.ITraceURIConverter;
+import org.eclipse.xtext.generator.trace.TraceFileNameProvider;
+import org.eclipse.xtext.resource.ILocationInFileProvider;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.compiler.ImportManager;
+import org.eclipse.xtext.xbase.compiler.output.StreamingJavaIoFileSystemAccess;
+import org.eclipse.xtext.xbase.compiler.output.TreeAppendable;
+import org.eclipse.xtext.xbase.jvmmodel.IJvmModelAssociations;
+import org.eclipse.xtext.xbase.testing.TemporaryFolder;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+public class StreamingJavaIoFileSystemAccessTest extends AbstractXbaseTestCase {
+
+	@Rule
+	@Inject public TemporaryFolder temporaryFolder;
+
+	@Inject
+	private Provider<StreamingJavaIoFileSystemAccess> fsaProvider;
+
+	@Inject
+	private ITraceURIConverter converter;
+
+	@Inject
+	private ILocationInFileProvider locationProvider;
+
+	@Inject
+	private IJvmModelAssociations jvmModelAssociations;
+
+	@Inject
+	private TraceFileNameProvider traceFileNameProvider;
+
+	@Test public void testTreeAppendable() throws Exception {
+		XExpression expression = expression("{ 'a' 'b' }");
+		TreeAppendable appendable = new TreeAppendable(new ImportManager(false), converter, locationProvider, jvmModelAssociations, expression, "  ", "\n");
+		appendable.append("package foo;").newLine();
+		appendable.trace(expression).append("class Bar {").increaseIndentation().newLine().append("int x;").decreaseIndentation().newLine().append("}");
+		File root = temporaryFolder.newFolder();
+		final List<File> added = Lists.newArrayList();
+		StreamingJavaIoFileSystemAccess fsa = fsaProvider.get();
+		fsa.setOutputPath(root.getAbsolutePath());
+		fsa.setCallBack(new StreamingJavaIoFileSystemAccess.IFileCallback() {
+			@Override
+			public void fileAdded(File file) {
+				added.add(file);
+			}
+			@Override
+			public void fileDeleted(File file) {
+			}
+		});
+		fsa.generateFile("foo/Bar.java", appendable);
+		File file = new File(root, "foo/Bar.java");
+		assertEquals(appendable.getContent(), Files.toString(file, Charsets.UTF_8));
+		File traceFile = new File(root, traceFileNameProvider.getTraceFromJava("foo/Bar.java"));
+		assertTrue(traceFile.isFile());
+		assertEquals(Lists.newArrayList(file, traceFile), added);
+	}
+
+	@Test public void testString() throws Exception {
+		File root = temporaryFolder.newFolder();
+		StreamingJavaIoFileSystemAccess fsa = fsaProvider.get();
+		fsa.setOutputPath(root.getAbsolutePath());
+		fsa.generateFile("foo/Bar.java", "class Bar {}");
+		assertEquals("class Bar {}", Files.toString(new File(root, "foo/Bar.java"), Charsets.UTF_8));
+	}
+
+}
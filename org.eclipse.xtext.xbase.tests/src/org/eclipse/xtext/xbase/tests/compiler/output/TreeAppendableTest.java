@@ -7,6 +7,8 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.tests.compiler.output;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -272,6 +274,20 @@ public class TreeAppendableTest extends Assert implements ILocationInFileProvide
 		assertEquals("my bbaa text bbaa more bbaa end", appendable.getContent());
 	}
 
+	@Test
+	public void testWriteTo() throws IOException {
+		expectedRegions = Arrays.asList(ITextRegionWithLineInformation.EMPTY_REGION, ITextRegionWithLineInformation.EMPTY_REGION).iterator();
+		TreeAppendable appendable = new TreeAppendable(new ImportManager(false), this, this, this, content, "  ", "\n");
+		appendable.append("first");
+		appendable.trace(content).append("second").newLine().append("third");
+		appendable.append("fourth");
+		StringWriter writer = new StringWriter();
+		appendable.writeTo(writer);
+		assertEquals("firstsecond\nthirdfourth", writer.toString());
+		assertEquals(appendable.getContent(), writer.toString());
+		assertEquals(writer.toString().length(), appendable.length());
+	}
+
 	@Override
 	public Set<EObject> getSourceElements(EObject jvmElement) {
 		return Collections.emptySet();
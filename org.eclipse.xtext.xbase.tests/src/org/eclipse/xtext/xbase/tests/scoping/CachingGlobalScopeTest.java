@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.scoping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.TypesFactory;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.scoping.impl.SimpleScope;
+import org.eclipse.xtext.xbase.scoping.CachingGlobalScope;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+
+public class CachingGlobalScopeTest extends Assert {
+
+	static class CountingScope extends SimpleScope {
+		int singleElementQueries;
+		int elementsQueries;
+
+		CountingScope(Iterable<IEObjectDescription> descriptions) {
+			super(descriptions);
+		}
+
+		@Override
+		public IEObjectDescription getSingleElement(QualifiedName name) {
+			singleElementQueries++;
+			return super.getSingleElement(name);
+		}
+
+		@Override
+		public Iterable<IEObjectDescription> getElements(QualifiedName name) {
+			elementsQueries++;
+			return super.getElements(name);
+		}
+	}
+
+	@Test public void testLookupsAreCached() {
+		JvmGenericType type = TypesFactory.eINSTANCE.createJvmGenericType();
+		type.setSimpleName("Foo");
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(type);
+		CountingScope delegate = new CountingScope(Collections.singletonList(EObjectDescription.create("Foo", type)));
+		CachingGlobalScope scope = new CachingGlobalScope(delegate);
+		QualifiedName foo = QualifiedName.create("Foo");
+		QualifiedName bar = QualifiedName.create("Bar");
+		for (int i = 0; i < 3; i++) {
+			assertSame(type, scope.getSingleElement(foo).getEObjectOrProxy());
+			assertNull(scope.getSingleElement(bar));
+			assertSame(type, Iterables.getOnlyElement(scope.getElements(foo)).getEObjectOrProxy());
+			assertTrue(Iterables.isEmpty(scope.getElements(bar)));
+		}
+		assertEquals(4, delegate.singleElementQueries);
+		assertEquals(4, delegate.elementsQueries);
+	}
+
+	@Test public void testMissingElementIsLookedUpAgain() {
+		List<IEObjectDescription> descriptions = new ArrayList<IEObjectDescription>();
+		CountingScope delegate = new CountingScope(descriptions);
+		CachingGlobalScope scope = new CachingGlobalScope(delegate);
+		QualifiedName foo = QualifiedName.create("Foo");
+		assertNull(scope.getSingleElement(foo));
+		assertTrue(Iterables.isEmpty(scope.getElements(foo)));
+		JvmGenericType type = TypesFactory.eINSTANCE.createJvmGenericType();
+		type.setSimpleName("Foo");
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(type);
+		descriptions.add(EObjectDescription.create("Foo", type));
+		assertSame(type, scope.getSingleElement(foo).getEObjectOrProxy());
+		assertSame(type, Iterables.getOnlyElement(scope.getElements(foo)).getEObjectOrProxy());
+	}
+
+	@Test public void testRemovedElementIsLookedUpAgain() {
+		JvmGenericType type = TypesFactory.eINSTANCE.createJvmGenericType();
+		type.setSimpleName("Foo");
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(type);
+		CountingScope delegate = new CountingScope(Collections.singletonList(EObjectDescription.create("Foo", type)));
+		CachingGlobalScope scope = new CachingGlobalScope(delegate);
+		QualifiedName foo = QualifiedName.create("Foo");
+		assertNotNull(scope.getSingleElement(foo));
+		resource.getContents().clear();
+		assertNotNull(scope.getSingleElement(foo));
+		assertNotNull(scope.getSingleElement(foo));
+		assertEquals(3, delegate.singleElementQueries);
+	}
+
+}
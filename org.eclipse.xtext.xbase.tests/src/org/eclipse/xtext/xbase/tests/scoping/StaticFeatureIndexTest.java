@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.scoping;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.common.types.JvmFeature;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.util.TypeReferences;
+import org.eclipse.xtext.xbase.scoping.batch.ImplicitlyImportedFeatures;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.scoping.batch.StaticFeatureIndex;
+import org.eclipse.xtext.xbase.scoping.batch.TypeBucket;
+import org.eclipse.xtext.xbase.scoping.batch.TypeWithRestrictedNamesBucket;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.inject.Inject;
+
+public class StaticFeatureIndexTest extends AbstractXbaseTestCase {
+
+	@Inject
+	private ImplicitlyImportedFeatures implicitlyImportedFeatures;
+
+	@Inject
+	private IResolvedFeatures.Provider resolvedFeaturesProvider;
+
+	@Inject
+	private TypeReferences typeReferences;
+
+	@Test public void testSharedPerResourceSet() throws Exception {
+		Resource resource = expression("null").eResource();
+		List<JvmType> indexed = implicitlyImportedFeatures.getIndexedExtensionClasses(resource);
+		assertTrue(indexed instanceof StaticFeatureIndex);
+		assertEquals(implicitlyImportedFeatures.getExtensionClasses(resource), indexed);
+		Resource other = resource.getResourceSet().createResource(URI.createURI("Other." + resource.getURI().fileExtension()));
+		assertSame(indexed, implicitlyImportedFeatures.getIndexedExtensionClasses(other));
+	}
+
+	@Test public void testSameFeaturesAsTypes() throws Exception {
+		Resource resource = expression("null").eResource();
+		StaticFeatureIndex index = (StaticFeatureIndex) implicitlyImportedFeatures.getIndexedExtensionClasses(resource);
+		assertTrue(index.isIndexedBy(resolvedFeaturesProvider));
+		for (String simpleName : new String[] { "map", "operator_plus", "toString", "unknown" }) {
+			List<JvmFeature> expected = Lists.newArrayList();
+			for (JvmType type : index) {
+				for (JvmFeature feature : resolvedFeaturesProvider.getResolvedFeatures(type).getAllFeatures(simpleName)) {
+					if (feature.isStatic()) {
+						expected.add(feature);
+					}
+				}
+			}
+			assertEquals(simpleName, expected, index.getStaticFeatures(simpleName));
+		}
+		assertFalse(index.getStaticFeatures("map").isEmpty());
+	}
+
+	@Test public void testBucketIndex() throws Exception {
+		Resource resource = expression("null").eResource();
+		StaticFeatureIndex index = (StaticFeatureIndex) implicitlyImportedFeatures.getIndexedExtensionClasses(resource);
+		TypeBucket bucket = new TypeBucket(-1, index, resolvedFeaturesProvider);
+		assertSame(index, bucket.getStaticFeatureIndex());
+		TypeBucket copied = new TypeBucket(-1, Lists.newArrayList(index), resolvedFeaturesProvider);
+		assertNotSame(index, copied.getStaticFeatureIndex());
+		assertSame(copied.getStaticFeatureIndex(), copied.getStaticFeatureIndex());
+		assertEquals(index.getStaticFeatures("map"), copied.getStaticFeatureIndex().getStaticFeatures("map"));
+	}
+
+	@Test public void testRestrictedNames() throws Exception {
+		Resource resource = expression("null").eResource();
+		JvmType iterables = typeReferences.findDeclaredType(IterableExtensions.class, resource);
+		Map<JvmType, Set<String>> typesToNames = Collections.<JvmType, Set<String>>singletonMap(iterables, Sets.newHashSet("map"));
+		StaticFeatureIndex index = new TypeWithRestrictedNamesBucket(-1, typesToNames, resolvedFeaturesProvider).getStaticFeatureIndex();
+		assertEquals(Collections.singletonList(iterables), index);
+		assertFalse(index.getStaticFeatures("map").isEmpty());
+		assertTrue(index.getStaticFeatures("filter").isEmpty());
+	}
+
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import java.util.List;
+
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.xbase.XBlockExpression;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XbaseStandaloneSetup;
+import org.eclipse.xtext.xbase.tests.XbaseInjectorProvider;
+import org.eclipse.xtext.xbase.tests.XbaseInjectorProvider.XbaseTestRuntimeModule;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.eclipse.xtext.xbase.typesystem.IExpressionScope;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.internal.CompactFeatureScopeTrackerProvider;
+import org.eclipse.xtext.xbase.typesystem.internal.IFeatureScopeTracker;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.inject.Binder;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+/**
+ * Runs the {@link ExpressionScopeTest} with the compact feature scope tracker.
+ */
+@InjectWith(CompactExpressionScopeTest.InjectorProvider.class)
+@RunWith(XtextRunner.class)
+public class CompactExpressionScopeTest extends ExpressionScopeTest {
+
+	public static class InjectorProvider extends XbaseInjectorProvider {
+		@Override
+		protected Injector internalCreateInjector() {
+			return new XbaseStandaloneSetup() {
+				@Override
+				public Injector createInjector() {
+					return Guice.createInjector(new XbaseTestRuntimeModule() {
+						@Override
+						public void configure(Binder binder) {
+							super.configure(binder);
+							binder.bind(IFeatureScopeTracker.Provider.class).to(LimitedFeatureScopeTrackerProvider.class);
+						}
+					});
+				}
+			}.createInjectorAndDoEMFRegistration();
+		}
+	}
+
+	public static class LimitedFeatureScopeTrackerProvider extends CompactFeatureScopeTrackerProvider {
+		static int maximumContexts = 20000;
+
+		@Override
+		protected int getMaximumContexts() {
+			return maximumContexts;
+		}
+	}
+
+	@Inject
+	private IBatchTypeResolver typeResolver;
+
+	@Test public void testMaximumContexts() throws Exception {
+		LimitedFeatureScopeTrackerProvider.maximumContexts = 3;
+		try {
+			XBlockExpression block = (XBlockExpression) expression("{ var x = 1 var y = 2 if (x < y) { x = y } }", false);
+			IResolvedTypes resolvedTypes = typeResolver.resolveTypes(block);
+			List<XExpression> expressions = block.getExpressions();
+			assertTrue(resolvedTypes.hasExpressionScope(block, IExpressionScope.Anchor.BEFORE));
+			XExpression last = expressions.get(expressions.size() - 1);
+			assertFalse(resolvedTypes.hasExpressionScope(last, IExpressionScope.Anchor.AFTER));
+			assertSame(IExpressionScope.NULL, resolvedTypes.getExpressionScope(last, IExpressionScope.Anchor.AFTER));
+		} finally {
+			LimitedFeatureScopeTrackerProvider.maximumContexts = 20000;
+		}
+	}
+
+}
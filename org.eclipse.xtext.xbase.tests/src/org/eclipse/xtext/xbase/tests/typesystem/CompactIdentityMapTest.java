@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.xtext.xbase.typesystem.internal.util.CompactIdentityMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompactIdentityMapTest extends Assert {
+
+	@Test public void testIdentity() {
+		String first = new String("key");
+		String second = new String("key");
+		CompactIdentityMap<String, Integer> map = new CompactIdentityMap<String, Integer>();
+		assertNull(map.put(first, 1));
+		assertNull(map.put(second, 2));
+		assertEquals(2, map.size());
+		assertEquals(Integer.valueOf(1), map.get(first));
+		assertEquals(Integer.valueOf(2), map.get(second));
+		assertNull(map.get("key"));
+		assertFalse(map.containsKey(null));
+		assertEquals(Integer.valueOf(1), map.put(first, 3));
+		assertEquals(Integer.valueOf(3), map.get(first));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNullKey() {
+		new CompactIdentityMap<Object, Object>().put(null, "value");
+	}
+
+	@Test public void testInsertionOrder() {
+		CompactIdentityMap<Object, Integer> map = new CompactIdentityMap<Object, Integer>(2);
+		List<Object> keys = new ArrayList<Object>();
+		for (int i = 0; i < 100; i++) {
+			Object key = new Object();
+			keys.add(key);
+			map.put(key, i);
+		}
+		assertEquals(keys, new ArrayList<Object>(map.keySet()));
+		map.remove(keys.remove(50));
+		map.remove(keys.remove(0));
+		assertEquals(keys, new ArrayList<Object>(map.keySet()));
+		Object last = keys.get(0);
+		map.put(last, -1);
+		assertEquals(keys, new ArrayList<Object>(map.keySet()));
+		assertEquals(Integer.valueOf(-1), map.values().iterator().next());
+	}
+
+	@Test public void testIteratorRemove() {
+		CompactIdentityMap<Object, Integer> map = new CompactIdentityMap<Object, Integer>();
+		for (int i = 0; i < 10; i++) {
+			map.put(new Object(), i);
+		}
+		Iterator<Map.Entry<Object, Integer>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getValue() % 2 == 0) {
+				iterator.remove();
+			}
+		}
+		assertEquals(5, map.size());
+		for (Map.Entry<Object, Integer> entry : map.entrySet()) {
+			assertEquals(1, entry.getValue() % 2);
+			assertSame(entry.getValue(), map.get(entry.getKey()));
+		}
+	}
+
+	@Test public void testSameAsLinkedHashMap() {
+		Random random = new Random(4711);
+		Object[] keys = new Object[64];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = new Object();
+		}
+		CompactIdentityMap<Object, Integer> map = new CompactIdentityMap<Object, Integer>();
+		Map<Object, Integer> expected = new LinkedHashMap<Object, Integer>();
+		for (int i = 0; i < 10000; i++) {
+			Object key = keys[random.nextInt(keys.length)];
+			switch (random.nextInt(4)) {
+				case 0:
+					assertEquals(expected.remove(key), map.remove(key));
+					break;
+				case 1:
+					map.ensureCapacity(map.size() + random.nextInt(8));
+					break;
+				default:
+					assertEquals(expected.put(key, i), map.put(key, i));
+			}
+			assertEquals(expected.size(), map.size());
+			assertEquals(expected.get(key), map.get(key));
+			if (i % 100 == 0) {
+				assertEquals(new ArrayList<Object>(expected.keySet()), new ArrayList<Object>(map.keySet()));
+				assertEquals(new ArrayList<Integer>(expected.values()), new ArrayList<Integer>(map.values()));
+			}
+		}
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertFalse(map.entrySet().iterator().hasNext());
+	}
+
+}
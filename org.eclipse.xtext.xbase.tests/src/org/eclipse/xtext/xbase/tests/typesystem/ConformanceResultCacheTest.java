@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import static org.eclipse.xtext.xbase.typesystem.conformance.RawTypeConformanceComputer.*;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceResultCache;
+import org.eclipse.xtext.xbase.typesystem.conformance.RawTypeConformanceComputer;
+import org.eclipse.xtext.xbase.typesystem.conformance.TypeConformanceComputer;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
+import org.junit.Test;
+
+import com.google.inject.Inject;
+
+public class ConformanceResultCacheTest extends AbstractXbaseTestCase {
+
+	private static final Class<?>[] TYPES = {
+		Object.class, String.class, CharSequence.class, Comparable.class, Serializable.class,
+		Integer.class, Number.class, Long.class, int.class, long.class, double.class, char.class, void.class,
+		List.class, ArrayList.class, AbstractList.class, Collection.class, Iterable.class, RandomAccess.class,
+		Runnable.class, Thread.class
+	};
+
+	private static final int[] FLAGS = {
+		ALLOW_BOXING_UNBOXING | ALLOW_PRIMITIVE_WIDENING | ALLOW_SYNONYMS | ALLOW_FUNCTION_CONVERSION | ALLOW_RAW_TYPE_CONVERSION,
+		ALLOW_RAW_TYPE_CONVERSION,
+		RAW_TYPE | ALLOW_BOXING,
+		AS_TYPE_ARGUMENT,
+		0
+	};
+
+	@Inject
+	private CommonTypeComputationServices services;
+
+	@Inject
+	private XtextResourceSet resourceSet;
+
+	@Test public void testSameResultsAsUncached() {
+		StandardTypeReferenceOwner uncached = new StandardTypeReferenceOwner(services, resourceSet);
+		final ConformanceResultCache cache = new ConformanceResultCache();
+		StandardTypeReferenceOwner cached = new StandardTypeReferenceOwner(services, resourceSet) {
+			@Override
+			public ConformanceResultCache getConformanceResultCache() {
+				return cache;
+			}
+		};
+		TypeConformanceComputer computer = services.getTypeConformanceComputer();
+		RawTypeConformanceComputer rawComputer = new RawTypeConformanceComputer();
+		for (int i = 0; i < 2; i++) {
+			for (Class<?> left : TYPES) {
+				for (Class<?> right : TYPES) {
+					for (int flags : FLAGS) {
+						String message = left.getSimpleName() + " <- " + right.getSimpleName() + " (" + flags + ")";
+						assertEquals(message,
+								computer.isConformant(uncached.newReferenceTo(left), uncached.newReferenceTo(right), flags),
+								computer.isConformant(cached.newReferenceTo(left), cached.newReferenceTo(right), flags));
+						assertEquals(message,
+								rawComputer.isConformant(uncached.newReferenceTo(left), uncached.newReferenceTo(right), flags),
+								rawComputer.isConformant(cached.newReferenceTo(left), cached.newReferenceTo(right), flags));
+					}
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.common.types.util.TypeReferences;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Inject;
+
+public class InternedTypeReferencesTest extends AbstractXbaseTestCase {
+
+	@Inject
+	private CommonTypeComputationServices services;
+
+	@Inject
+	private TypeReferences typeReferences;
+
+	@Inject
+	private XtextResourceSet resourceSet;
+
+	private StandardTypeReferenceOwner owner;
+
+	@Before
+	public void createOwner() {
+		owner = new StandardTypeReferenceOwner(services, resourceSet);
+	}
+
+	protected JvmType findType(Class<?> type) {
+		return typeReferences.findDeclaredType(type, resourceSet);
+	}
+
+	@Test public void testNonGenericTypes() {
+		for (Class<?> type : new Class<?>[] { String.class, Object.class, Integer.class, int.class, void.class,
+				RetentionPolicy.class, Retention.class }) {
+			JvmType jvmType = findType(type);
+			LightweightTypeReference reference = owner.toLightweightTypeReference(jvmType);
+			assertSame(type.getName(), reference, owner.toLightweightTypeReference(jvmType));
+			assertSame(type.getName(), reference, owner.toPlainTypeReference(jvmType));
+			assertSame(type.getName(), reference, owner.newReferenceTo(type));
+			assertSame(type.getName(), reference, owner.toLightweightTypeReference(typeReferences.createTypeRef(jvmType)));
+		}
+	}
+
+	@Test public void testGenericTypes() {
+		JvmType list = findType(List.class);
+		assertNull(owner.getInternedTypeReference(list));
+		assertNotSame(owner.toLightweightTypeReference(list), owner.toLightweightTypeReference(list));
+		assertEquals("List<E>", owner.toLightweightTypeReference(list).getSimpleName());
+		assertEquals("List", owner.toPlainTypeReference(list).getSimpleName());
+		assertNull(owner.getInternedTypeReference(findType(Map.Entry.class)));
+	}
+
+	@Test public void testWrapperAndPrimitiveTypes() {
+		LightweightTypeReference primitive = owner.newReferenceTo(int.class);
+		LightweightTypeReference wrapper = owner.newReferenceTo(Integer.class);
+		assertSame(wrapper, primitive.getWrapperTypeIfPrimitive());
+		assertSame(primitive, wrapper.getPrimitiveIfWrapperType());
+	}
+
+	@Test public void testReferencesAreOwnedByTheirOwner() {
+		StandardTypeReferenceOwner other = new StandardTypeReferenceOwner(services, resourceSet);
+		LightweightTypeReference reference = owner.newReferenceToObject();
+		LightweightTypeReference otherReference = other.newReferenceToObject();
+		assertNotSame(reference, otherReference);
+		assertTrue(reference.isOwnedBy(owner));
+		assertTrue(otherReference.isOwnedBy(other));
+	}
+
+}
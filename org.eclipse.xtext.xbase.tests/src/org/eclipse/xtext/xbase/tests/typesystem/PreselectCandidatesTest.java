@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.testing.util.ParseHelper;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.XBlockExpression;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XbaseStandaloneSetup;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.eclipse.xtext.xbase.tests.XbaseInjectorProvider;
+import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
+import org.eclipse.xtext.xbase.typesystem.computation.ILinkingCandidate;
+import org.eclipse.xtext.xbase.typesystem.computation.XbaseTypeComputer;
+import org.eclipse.xtext.xbase.typesystem.internal.AbstractPendingLinkingCandidate;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+
+/**
+ * Pins the linked feature and the reported errors for overloaded features whose candidates
+ * are preselected by their arity. Each expression is resolved with and without the preselection.
+ */
+@RunWith(XtextRunner.class)
+@InjectWith(PreselectCandidatesTest.InjectorProvider.class)
+public class PreselectCandidatesTest extends AbstractXbaseTestCase {
+
+	public static class InjectorProvider extends XbaseInjectorProvider {
+		@Override
+		protected Injector internalCreateInjector() {
+			return new XbaseStandaloneSetup() {
+				@Override
+				public Injector createInjector() {
+					return Guice.createInjector(new XbaseTestRuntimeModule() {
+						@SuppressWarnings("unused")
+						public Class<? extends XbaseTypeComputer> bindXbaseTypeComputer() {
+							return RecordingXbaseTypeComputer.class;
+						}
+					});
+				}
+			}.createInjectorAndDoEMFRegistration();
+		}
+	}
+
+	@Singleton
+	public static class RecordingXbaseTypeComputer extends XbaseTypeComputer {
+		private boolean preselect = true;
+		private final Map<XExpression, List<String>> preselected = Maps.newHashMap();
+
+		@Override
+		protected List<? extends ILinkingCandidate> preselectCandidates(List<? extends ILinkingCandidate> candidates) {
+			List<? extends ILinkingCandidate> result = preselect ? super.preselectCandidates(candidates) : candidates;
+			if (!candidates.isEmpty() && candidates.get(0) instanceof AbstractPendingLinkingCandidate<?>) {
+				List<String> features = Lists.newArrayList();
+				for(ILinkingCandidate candidate: result) {
+					features.add(candidate.getFeature().getIdentifier());
+				}
+				preselected.put(((AbstractPendingLinkingCandidate<?>) candidates.get(0)).getExpression(), features);
+			}
+			return result;
+		}
+	}
+
+	@Inject
+	private ParseHelper<XExpression> parseHelper;
+
+	@Inject
+	private IBatchTypeResolver typeResolver;
+
+	@Inject
+	private XbaseTypeComputer typeComputer;
+
+	@After
+	public void tearDown() {
+		getTypeComputer().preselect = true;
+		getTypeComputer().preselected.clear();
+	}
+
+	@Test public void testMixedArity_01() throws Exception {
+		assertLinked("'abc'.indexOf('b')", "java.lang.String.indexOf(java.lang.String)", "",
+				"java.lang.String.indexOf(int)", "java.lang.String.indexOf(java.lang.String)");
+	}
+
+	@Test public void testMixedArity_02() throws Exception {
+		assertLinked("'abc'.indexOf(true)", "java.lang.String.indexOf(int)", "Type mismatch: cannot convert from boolean to int",
+				"java.lang.String.indexOf(int)", "java.lang.String.indexOf(java.lang.String)");
+	}
+
+	@Test public void testMixedArity_03() throws Exception {
+		assertLinked("'abc'.indexOf('b', 1)", "java.lang.String.indexOf(java.lang.String,int)", "",
+				"java.lang.String.indexOf(int,int)", "java.lang.String.indexOf(java.lang.String,int)");
+	}
+
+	@Test public void testNoMatchingArity() throws Exception {
+		assertLinked("'abc'.indexOf(1, 2, 3)", "java.lang.String.indexOf(int,int)",
+				"Invalid number of arguments. The method indexOf(int, int) is not applicable for the arguments (int,int,int)",
+				"java.lang.String.indexOf(int)",
+				"java.lang.String.indexOf(int,int)",
+				"java.lang.String.indexOf(java.lang.String)",
+				"java.lang.String.indexOf(java.lang.String,int)",
+				"java.lang.String.indexOf(char[],int,int,java.lang.String,int)",
+				"java.lang.String.indexOf(char[],int,int,char[],int,int,int)");
+	}
+
+	@Test public void testVarArgs_01() throws Exception {
+		assertLinked("java.util.EnumSet.of(java.util.concurrent.TimeUnit.SECONDS, java.util.concurrent.TimeUnit.DAYS)",
+				"java.util.EnumSet.of(E,E)", "",
+				"java.util.EnumSet.of(E,E)", "java.util.EnumSet.of(E,E[])");
+	}
+
+	@Test public void testVarArgs_02() throws Exception {
+		assertLinked("java.util.EnumSet.of(java.util.concurrent.TimeUnit.SECONDS, java.util.concurrent.TimeUnit.DAYS, "
+				+ "java.util.concurrent.TimeUnit.DAYS, java.util.concurrent.TimeUnit.DAYS, java.util.concurrent.TimeUnit.DAYS, "
+				+ "java.util.concurrent.TimeUnit.DAYS)",
+				"java.util.EnumSet.of(E,E[])", "",
+				"java.util.EnumSet.of(E,E[])");
+	}
+
+	@Test public void testVarArgs_03() throws Exception {
+		assertLinked("java.util.EnumSet.of('a', 'b')", "java.util.EnumSet.of(E,E)",
+				"Bounds mismatch: The type argument <String> is not a valid substitute for the bounded type parameter <E extends Enum<E>> of the method of(E, E)",
+				"java.util.EnumSet.of(E,E)", "java.util.EnumSet.of(E,E[])");
+	}
+
+	@Test public void testExtension_01() throws Exception {
+		assertLinked("newArrayList('a').join(',')", "org.eclipse.xtext.xbase.lib.IterableExtensions.join(java.lang.Iterable,java.lang.CharSequence)", "",
+				"org.eclipse.xtext.xbase.lib.IterableExtensions.join(java.lang.Iterable,java.lang.CharSequence)");
+	}
+
+	@Test public void testExtension_02() throws Exception {
+		assertLinked("newArrayList('a').join(1)", "org.eclipse.xtext.xbase.lib.IterableExtensions.join(java.lang.Iterable,java.lang.CharSequence)",
+				"Type mismatch: cannot convert from int to CharSequence",
+				"org.eclipse.xtext.xbase.lib.IterableExtensions.join(java.lang.Iterable,java.lang.CharSequence)");
+	}
+
+	@Test public void testAssignment_01() throws Exception {
+		assertLinked("{ val r = new java.awt.Rectangle r.frame = r }", "java.awt.geom.RectangularShape.setFrame(java.awt.geom.Rectangle2D)", "",
+				"java.awt.geom.Rectangle2D.setFrame(double,double,double,double)",
+				"java.awt.geom.RectangularShape.setFrame(java.awt.geom.Point2D,java.awt.geom.Dimension2D)",
+				"java.awt.geom.RectangularShape.setFrame(java.awt.geom.Rectangle2D)");
+	}
+
+	@Test public void testAssignment_02() throws Exception {
+		assertLinked("{ val r = new java.awt.Rectangle r.frame = 1 }", "java.awt.geom.RectangularShape.setFrame(java.awt.geom.Rectangle2D)",
+				"Type mismatch: cannot convert from int to Rectangle2D",
+				"java.awt.geom.Rectangle2D.setFrame(double,double,double,double)",
+				"java.awt.geom.RectangularShape.setFrame(java.awt.geom.Point2D,java.awt.geom.Dimension2D)",
+				"java.awt.geom.RectangularShape.setFrame(java.awt.geom.Rectangle2D)");
+	}
+
+	/**
+	 * Asserts the outcome with preselected candidates and checks that it is the same without them.
+	 */
+	protected void assertLinked(String expression, String expectedFeature, String expectedErrors, String... expectedPreselection) throws Exception {
+		XAbstractFeatureCall featureCall = resolve(expression);
+		assertEquals(expectedFeature, featureCall.getFeature().getIdentifier());
+		assertEquals(expectedErrors, getErrors(featureCall.eResource()));
+		assertEquals(Joiner.on('\n').join(expectedPreselection), Joiner.on('\n').join(getTypeComputer().preselected.get(featureCall)));
+
+		getTypeComputer().preselect = false;
+		XAbstractFeatureCall withoutPreselection = resolve(expression);
+		assertEquals(expectedFeature, withoutPreselection.getFeature().getIdentifier());
+		assertEquals(expectedErrors, getErrors(withoutPreselection.eResource()));
+	}
+
+	protected XAbstractFeatureCall resolve(String expression) throws Exception {
+		XExpression result = parseHelper.parse(expression);
+		typeResolver.resolveTypes(result);
+		if (result instanceof XBlockExpression) {
+			List<XExpression> expressions = ((XBlockExpression) result).getExpressions();
+			result = expressions.get(expressions.size() - 1);
+		}
+		return (XAbstractFeatureCall) result;
+	}
+
+	protected String getErrors(Resource resource) {
+		List<String> result = Lists.newArrayList();
+		for(Resource.Diagnostic error: resource.getErrors()) {
+			result.add(error.getMessage());
+		}
+		return Joiner.on('\n').join(result);
+	}
+
+	protected RecordingXbaseTypeComputer getTypeComputer() {
+		return (RecordingXbaseTypeComputer) typeComputer;
+	}
+
+}
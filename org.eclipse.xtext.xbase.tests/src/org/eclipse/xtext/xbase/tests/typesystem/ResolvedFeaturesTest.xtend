@@ -14,10 +14,12 @@ import java.lang.ref.SoftReference
 import java.util.AbstractList
 import java.util.ArrayList
 import org.eclipse.xtext.common.types.JvmDeclaredType
+import org.eclipse.xtext.common.types.JvmOperation
 import org.eclipse.xtext.xbase.XCastedExpression
 import org.eclipse.xtext.xbase.XTypeLiteral
 import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase
 import org.eclipse.xtext.xbase.typesystem.^override.OverrideHelper
+import org.eclipse.xtext.xbase.typesystem.^override.OverrideTester
 import org.junit.Test
 import org.eclipse.xtext.xbase.typesystem.^override.ResolvedFeatures
 import java.util.List
@@ -30,6 +32,9 @@ class ResolvedFeaturesTest extends AbstractXbaseTestCase {
 	
 	@Inject
 	OverrideHelper overrideHelper
+	
+	@Inject
+	OverrideTester overrideTester
 
 	val static BASE_CLASS_METHOD_ERASED_SIGNATURE = "baseClassMethod(java.util.List)"
 
@@ -42,6 +47,14 @@ class ResolvedFeaturesTest extends AbstractXbaseTestCase {
 	static class DerivedClass extends BaseClass {
 		def derivedClassMethod(List<String> l) {}
 	}
+	
+	static class OverloadedBaseClass {
+		def void overloaded(String s) {}
+	}
+	
+	static class GenericDerivedClass<T> extends OverloadedBaseClass {
+		def void overloaded(T t) {}
+	}
 
 	def ResolvedFeatures toResolvedOperations(Class<?> type) {
 		val typeLiteral = '''typeof(type.canonicalName)'''.expression as XTypeLiteral
@@ -54,6 +67,15 @@ class ResolvedFeaturesTest extends AbstractXbaseTestCase {
 		val result = overrideHelper.getResolvedFeatures(cast.type)
 		return result
 	}
+	
+	def List<JvmOperation> getUncachedOperations(ResolvedFeatures resolvedFeatures) {
+		val uncached = new ResolvedFeatures(resolvedFeatures.type, overrideTester) {
+			override protected isSealedOperationsCacheEnabled() {
+				false
+			}
+		}
+		return uncached.allOperations.map[declaration].toList
+	}
 
 	@Test
 	def void testAllOperationsIncludeDeclaredOperations() {
@@ -202,4 +224,27 @@ class ResolvedFeaturesTest extends AbstractXbaseTestCase {
 		assertEquals("ReferenceQueue<? super String>", fields.findFirst[simpleSignature == 'queue'].resolvedType.humanReadableName)
 	}
 	
-}
\ No newline at end of file
+	@Test
+	def void testSealedOperationsOfArrayList() {
+		val resolvedFeatures = "null as java.util.ArrayList<String>".toResolvedOperations
+		assertEquals(resolvedFeatures.uncachedOperations, resolvedFeatures.allOperations.map[declaration].toList)
+		val stream = resolvedFeatures.allOperations.findFirst[declaration.simpleName == 'stream']
+		assertEquals("Stream<String>", stream.resolvedReturnType.humanReadableName)
+	}
+	
+	@Test
+	def void testSealedOperationsOfGenericType_01() {
+		// overloaded(T) overrides overloaded(String) if T is bound to String
+		val resolvedFeatures = ("null as " + typeof(GenericDerivedClass).canonicalName + "<String>").toResolvedOperations
+		assertEquals(resolvedFeatures.uncachedOperations, resolvedFeatures.allOperations.map[declaration].toList)
+		assertEquals(1, resolvedFeatures.allOperations.filter[declaration.simpleName == 'overloaded'].size)
+	}
+	
+	@Test
+	def void testSealedOperationsOfGenericType_02() {
+		val resolvedFeatures = ("null as " + typeof(GenericDerivedClass).canonicalName + "<Integer>").toResolvedOperations
+		assertEquals(resolvedFeatures.uncachedOperations, resolvedFeatures.allOperations.map[declaration].toList)
+		assertEquals(2, resolvedFeatures.allOperations.filter[declaration.simpleName == 'overloaded'].size)
+	}
+	
+}
@@ -8,6 +8,7 @@
 package org.eclipse.xtext.xbase.tests.typesystem
 
 import com.google.inject.Inject
+import org.eclipse.xtext.common.types.JvmGenericType
 import org.eclipse.xtext.xbase.XCastedExpression
 import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase
 import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver
@@ -42,6 +43,41 @@ class StandardTypeParameterSubstitutorTest extends AbstractXbaseTestCase {
 		assertEquals('Object[]', substituted.simpleName)
 	}
 
+	@Test
+	def void testUnmappedTypeParameterIsNotCopied() {
+		val typeReference = 'Iterable<String>'.toTypeReference
+		val mapping = new DeclaratorTypeArgumentCollector().getTypeParameterMapping(typeReference)
+		val owner = typeReference.owner
+		val listType = 'java.util.List<String>'.toTypeReference.type as JvmGenericType
+		val original = owner.newParameterizedTypeReference(listType)
+		original.addTypeArgument(owner.newParameterizedTypeReference(listType.typeParameters.head))
+		assertEquals('List<E>', original.simpleName)
+		val substitutor = new StandardTypeParameterSubstitutor(mapping, owner)
+		assertSame(original, substitutor.substitute(original))
+		val mapped = owner.newParameterizedTypeReference(listType)
+		mapped.addTypeArgument(owner.newParameterizedTypeReference(mapping.keySet.head))
+		val substituted = substitutor.substitute(mapped)
+		assertNotSame(mapped, substituted)
+		assertEquals('List<String>', substituted.simpleName)
+	}
+
+	@Test
+	def void testEmptyMapping() {
+		val owner = 'Iterable<String>'.toTypeReference.owner
+		val substitutor = new StandardTypeParameterSubstitutor(emptyMap, owner)
+		val resolved = 'String'.toTypeReference
+		assertSame(resolved, substitutor.substitute(resolved))
+		val listType = 'java.util.List<String>'.toTypeReference
+		val typeParameter = (listType.type as JvmGenericType).typeParameters.head
+		val unresolved = owner.newParameterizedTypeReference(typeParameter)
+		assertNotSame(unresolved, substitutor.substitute(unresolved))
+		val foreign = listType.owner.newParameterizedTypeReference(typeParameter)
+		assertFalse(foreign.isOwnedBy(owner))
+		val copied = substitutor.substitute(foreign)
+		assertSame(owner, copied.owner)
+		assertEquals('E', copied.simpleName)
+	}
+
 	protected def substituteInArrayContext(String componentType) {
 		val typeReference = '''Iterable<componentType>'''.toTypeReference
 		val collector = new DeclaratorTypeArgumentCollector();
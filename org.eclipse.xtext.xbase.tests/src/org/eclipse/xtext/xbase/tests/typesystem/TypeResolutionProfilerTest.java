@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.util.TypeReferences;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.testing.util.ParseHelper;
+import org.eclipse.xtext.xbase.XBlockExpression;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.XMemberFeatureCall;
+import org.eclipse.xtext.xbase.jvmmodel.JvmTypesBuilder;
+import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.internal.DefaultBatchTypeResolver;
+import org.eclipse.xtext.xbase.typesystem.internal.TypeResolutionProfiler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Singleton;
+
+@RunWith(XtextRunner.class)
+@InjectWith(TypeResolutionProfilerTest.InjectorProvider.class)
+public class TypeResolutionProfilerTest extends AbstractXbaseTestCase {
+
+	public static class InjectorProvider extends XbaseWithLogicalContainerInjectorProvider {
+		@Override
+		protected Injector internalCreateInjector() {
+			return new XbaseWithLogicalContainerTestStandaloneSetup() {
+				@Override
+				public Injector createInjector() {
+					return Guice.createInjector(new XbaseWithLogicalContainerRuntimeModule() {
+						@SuppressWarnings("unused")
+						public Class<? extends TypeResolutionProfiler> bindTypeResolutionProfiler() {
+							return RecordingTypeResolutionProfiler.class;
+						}
+					});
+				}
+			}.createInjectorAndDoEMFRegistration();
+		}
+	}
+
+	@Singleton
+	public static class RecordingTypeResolutionProfiler extends TypeResolutionProfiler {
+		private final List<Recording> recordings = Lists.newArrayList();
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		@Override
+		protected void report(Recording recording) {
+			recordings.add(recording);
+		}
+	}
+
+	@Inject
+	private ParseHelper<XExpression> parseHelper;
+
+	@Inject
+	private JvmTypesBuilder typesBuilder;
+
+	@Inject
+	private TypeReferences typeReferences;
+
+	@Inject
+	private DefaultBatchTypeResolver typeResolver;
+
+	@Inject
+	private TypeResolutionProfiler profiler;
+
+	@Test public void testRecording() throws Exception {
+		XBlockExpression block = (XBlockExpression) parseHelper.parse(
+				"{ s.toUpperCase inferred(s) + s s.substring(1) }");
+		List<XExpression> bodies = block.getExpressions();
+		JvmTypeReference stringType = typeReferences.getTypeForName(String.class, block);
+		JvmGenericType type = typesBuilder.toClass(block, "my.test.Foo");
+		type.getMembers().add(createOperation("upperCase", stringType, bodies.get(0)));
+		type.getMembers().add(createOperation("concat", stringType, bodies.get(1)));
+		type.getMembers().add(createOperation("inferred", typesBuilder.inferredType(), bodies.get(2)));
+		Resource resource = block.eResource();
+		resource.eSetDeliver(false);
+		resource.getContents().add(type);
+		resource.eSetDeliver(true);
+
+		List<TypeResolutionProfiler.Recording> recordings = ((RecordingTypeResolutionProfiler) profiler).recordings;
+		recordings.clear();
+		IResolvedTypes resolvedTypes = typeResolver.resolveTypes(type);
+		assertTrue(resolvedTypes.getQueuedDiagnostics().isEmpty());
+		assertEquals(1, recordings.size());
+		TypeResolutionProfiler.Recording recording = recordings.get(0);
+		assertSame(type, recording.getRoot());
+		assertTrue(recording.getNanos() >= 0);
+		assertFalse(TypeResolutionProfiler.isRecording());
+
+		Set<XExpression> rootExpressions = Sets.newHashSet();
+		for (TypeResolutionProfiler.Statistics statistics : recording.getRootExpressions()) {
+			rootExpressions.add(statistics.getExpression());
+			assertEquals(1, statistics.getCount());
+		}
+		assertEquals(Sets.newHashSet(bodies), rootExpressions);
+
+		TypeResolutionProfiler.Statistics total = recording.getTotal();
+		assertEquals(1, total.getDemandedTypes());
+		assertTrue(total.getConformanceChecks() > 0);
+		assertTrue(total.getLinkingCandidates() > 0);
+
+		TypeResolutionProfiler.Statistics upperCase = null;
+		for (TypeResolutionProfiler.Statistics statistics : recording.getFeatureCalls()) {
+			if (statistics.getExpression() instanceof XMemberFeatureCall
+					&& "toUpperCase".equals(((XMemberFeatureCall) statistics.getExpression()).getConcreteSyntaxFeatureName())) {
+				upperCase = statistics;
+			}
+		}
+		assertNotNull(upperCase);
+		assertTrue(upperCase.getLinkingCandidates() >= 1);
+
+		String report = recording.getReport(2);
+		assertTrue(report, report.contains("Slowest root expressions:\n  line 1 '"));
+		assertTrue(report, report.contains("Feature calls with the most linking candidates:\n  line 1 '"));
+	}
+
+	protected JvmOperation createOperation(String name, JvmTypeReference returnType, XExpression body) {
+		JvmOperation result = typesBuilder.toMethod(body, name, returnType, null);
+		result.getParameters().add(typesBuilder.toParameter(body, "s", typeReferences.getTypeForName(String.class, body)));
+		typesBuilder.setBody(result, body);
+		return result;
+	}
+
+}
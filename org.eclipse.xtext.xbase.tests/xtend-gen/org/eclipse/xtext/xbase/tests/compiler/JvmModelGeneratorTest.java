@@ -17,6 +17,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.AbstractList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.eclipse.emf.common.util.EList;
@@ -46,11 +47,14 @@ import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
 import org.eclipse.xtext.testing.InjectWith;
 import org.eclipse.xtext.testing.XtextRunner;
 import org.eclipse.xtext.testing.validation.ValidationTestHelper;
+import org.eclipse.xtext.util.JavaVersion;
 import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.compiler.JvmModelGenerator;
 import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable;
 import org.eclipse.xtext.xbase.jvmmodel.JvmModelCompleter;
 import org.eclipse.xtext.xbase.jvmmodel.JvmTypesBuilder;
+import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Conversions;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.Extension;
@@ -1122,6 +1126,139 @@ public class JvmModelGeneratorTest extends AbstractXbaseTestCase {
     }
   }
   
+  @Test
+  public void testHoistedClosure_01() {
+    try {
+      final XExpression expression = this.expression("newArrayList(\'a\', \'bb\').map[ length ]", false);
+      final Procedure1<JvmGenericType> _function = (JvmGenericType it) -> {
+        EList<JvmMember> _members = it.getMembers();
+        JvmTypeReference _typeRef = this.typeRef(expression, List.class, Integer.class);
+        final Procedure1<JvmOperation> _function_1 = (JvmOperation it_1) -> {
+          this.builder.setBody(it_1, expression);
+        };
+        JvmOperation _method = this.builder.toMethod(expression, "doStuff", _typeRef, _function_1);
+        this.builder.<JvmOperation>operator_add(_members, _method);
+      };
+      final JvmGenericType clazz = this.builder.toClass(expression, "my.test.Foo", _function);
+      Resource _eResource = expression.eResource();
+      GeneratorConfig _hoistNonCapturingClosures = this.hoistNonCapturingClosures();
+      final String code = this.generate(_eResource, clazz, _hoistNonCapturingClosures);
+      boolean _contains = code.contains("private static final Function1<String, Integer> _function = new Function1<String, Integer>() {");
+      Assert.assertTrue(code, _contains);
+      boolean _contains_1 = code.contains("Foo._function)");
+      Assert.assertTrue(code, _contains_1);
+      Resource _eResource_1 = expression.eResource();
+      final Class<?> compiledClass = this.compileToClass(_eResource_1, clazz, code);
+      Method _method = compiledClass.getMethod("doStuff");
+      Object _newInstance = compiledClass.newInstance();
+      Object _invoke = _method.invoke(_newInstance);
+      Assert.assertEquals(Collections.<Integer>unmodifiableList(CollectionLiterals.<Integer>newArrayList(Integer.valueOf(1), Integer.valueOf(2))), _invoke);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  @Test
+  public void testHoistedClosure_02() {
+    try {
+      final XExpression expression = this.expression("{ val x = 1 newArrayList(1, 2).map[ it + 1 ].map[ it + x ] }", false);
+      final Procedure1<JvmGenericType> _function = (JvmGenericType it) -> {
+        EList<JvmMember> _members = it.getMembers();
+        JvmTypeReference _typeRef = this.typeRef(expression, String.class);
+        JvmField _field = this.builder.toField(expression, "_function", _typeRef);
+        this.builder.<JvmField>operator_add(_members, _field);
+        EList<JvmMember> _members_1 = it.getMembers();
+        JvmTypeReference _typeRef_1 = this.typeRef(expression, List.class, Integer.class);
+        final Procedure1<JvmOperation> _function_1 = (JvmOperation it_1) -> {
+          this.builder.setBody(it_1, expression);
+        };
+        JvmOperation _method = this.builder.toMethod(expression, "doStuff", _typeRef_1, _function_1);
+        this.builder.<JvmOperation>operator_add(_members_1, _method);
+      };
+      final JvmGenericType clazz = this.builder.toClass(expression, "my.test.Foo", _function);
+      Resource _eResource = expression.eResource();
+      GeneratorConfig _hoistNonCapturingClosures = this.hoistNonCapturingClosures();
+      final String code = this.generate(_eResource, clazz, _hoistNonCapturingClosures);
+      boolean _contains = code.contains("private static final Function1<Integer, Integer> _function_1 = ");
+      Assert.assertTrue(code, _contains);
+      boolean _contains_1 = code.contains("final Function1<Integer, Integer> _function = new Function1<Integer, Integer>() {");
+      Assert.assertTrue(code, _contains_1);
+      Resource _eResource_1 = expression.eResource();
+      final Class<?> compiledClass = this.compileToClass(_eResource_1, clazz, code);
+      Method _method = compiledClass.getMethod("doStuff");
+      Object _newInstance = compiledClass.newInstance();
+      Object _invoke = _method.invoke(_newInstance);
+      Assert.assertEquals(Collections.<Integer>unmodifiableList(CollectionLiterals.<Integer>newArrayList(Integer.valueOf(3), Integer.valueOf(4))), _invoke);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  @Test
+  public void testHoistedClosure_03() {
+    try {
+      final XExpression expression = this.expression("newArrayList(\'a\', \'bb\').map[ newArrayList(it).map[ length ] ]", false);
+      final Procedure1<JvmGenericType> _function = (JvmGenericType it) -> {
+        EList<JvmMember> _members = it.getMembers();
+        JvmTypeReference _typeRef = this.typeRef(expression, Object.class);
+        final Procedure1<JvmOperation> _function_1 = (JvmOperation it_1) -> {
+          this.builder.setBody(it_1, expression);
+        };
+        JvmOperation _method = this.builder.toMethod(expression, "doStuff", _typeRef, _function_1);
+        this.builder.<JvmOperation>operator_add(_members, _method);
+      };
+      final JvmGenericType clazz = this.builder.toClass(expression, "my.test.Foo", _function);
+      Resource _eResource = expression.eResource();
+      GeneratorConfig _hoistNonCapturingClosures = this.hoistNonCapturingClosures();
+      final String code = this.generate(_eResource, clazz, _hoistNonCapturingClosures);
+      boolean _contains = code.contains("private static final Function1<String, List<Integer>> _function = ");
+      Assert.assertTrue(code, _contains);
+      boolean _contains_1 = code.contains("private static final Function1<String, Integer> _function_1 = ");
+      Assert.assertTrue(code, _contains_1);
+      Resource _eResource_1 = expression.eResource();
+      final Class<?> compiledClass = this.compileToClass(_eResource_1, clazz, code);
+      Method _method = compiledClass.getMethod("doStuff");
+      Object _newInstance = compiledClass.newInstance();
+      Object _invoke = _method.invoke(_newInstance);
+      List<Integer> _unmodifiableList = Collections.<Integer>unmodifiableList(CollectionLiterals.<Integer>newArrayList(Integer.valueOf(1)));
+      List<Integer> _unmodifiableList_1 = Collections.<Integer>unmodifiableList(CollectionLiterals.<Integer>newArrayList(Integer.valueOf(2)));
+      Assert.assertEquals(Collections.<List<Integer>>unmodifiableList(CollectionLiterals.<List<Integer>>newArrayList(_unmodifiableList, _unmodifiableList_1)), _invoke);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  @Test
+  public void testHoistedClosure_04() {
+    try {
+      final XExpression expression = this.expression("newArrayList(\'a\', \'bb\').map[ length ]", false);
+      final Procedure1<JvmGenericType> _function = (JvmGenericType it) -> {
+        EList<JvmMember> _members = it.getMembers();
+        JvmTypeReference _typeRef = this.typeRef(expression, List.class, Integer.class);
+        final Procedure1<JvmOperation> _function_1 = (JvmOperation it_1) -> {
+          this.builder.setBody(it_1, expression);
+        };
+        JvmOperation _method = this.builder.toMethod(expression, "doStuff", _typeRef, _function_1);
+        this.builder.<JvmOperation>operator_add(_members, _method);
+      };
+      final JvmGenericType clazz = this.builder.toClass(expression, "my.test.Foo", _function);
+      final GeneratorConfig config = this.hoistNonCapturingClosures();
+      config.setJavaSourceVersion(JavaVersion.JAVA8);
+      Resource _eResource = expression.eResource();
+      final String code = this.generate(_eResource, clazz, config);
+      boolean _contains = code.contains("static");
+      Assert.assertFalse(code, _contains);
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+  
+  public GeneratorConfig hoistNonCapturingClosures() {
+    final GeneratorConfig result = new GeneratorConfig();
+    result.setHoistNonCapturingClosures(true);
+    return result;
+  }
+  
   public JvmTypeReference typeRef(final EObject ctx, final Class<?> clazz) {
     return this.references.getTypeForName(clazz, ctx);
   }
@@ -1156,6 +1293,19 @@ public class JvmModelGeneratorTest extends AbstractXbaseTestCase {
     return _xblockexpression;
   }
   
+  public String generate(final Resource res, final JvmDeclaredType type, final GeneratorConfig config) {
+    String _xblockexpression = null;
+    {
+      res.eSetDeliver(false);
+      EList<EObject> _contents = res.getContents();
+      this.builder.<JvmDeclaredType>operator_add(_contents, type);
+      res.eSetDeliver(true);
+      CharSequence _generateType = this.generator.generateType(type, config);
+      _xblockexpression = _generateType.toString();
+    }
+    return _xblockexpression;
+  }
+  
   public Class<?> compileToClass(final Resource res, final JvmDeclaredType type, final String code) {
     Class<?> _xblockexpression = null;
     {
@@ -30,11 +30,13 @@ import org.eclipse.xtext.xbase.XTypeLiteral;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.ListExtensions;
 import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedConstructor;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedField;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedOperation;
 import org.eclipse.xtext.xbase.typesystem.override.OverrideHelper;
+import org.eclipse.xtext.xbase.typesystem.override.OverrideTester;
 import org.eclipse.xtext.xbase.typesystem.override.ResolvedFeatures;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 import org.junit.Assert;
@@ -58,9 +60,22 @@ public class ResolvedFeaturesTest extends AbstractXbaseTestCase {
     }
   }
   
+  public static class OverloadedBaseClass {
+    public void overloaded(final String s) {
+    }
+  }
+  
+  public static class GenericDerivedClass<T extends Object> extends ResolvedFeaturesTest.OverloadedBaseClass {
+    public void overloaded(final T t) {
+    }
+  }
+  
   @Inject
   private OverrideHelper overrideHelper;
   
+  @Inject
+  private OverrideTester overrideTester;
+  
   private final static String BASE_CLASS_METHOD_ERASED_SIGNATURE = "baseClassMethod(java.util.List)";
   
   private final static String DERIVED_CLASS_METHOD_ERASED_SIGNATURE = "derivedClassMethod(java.util.List)";
@@ -94,6 +109,22 @@ public class ResolvedFeaturesTest extends AbstractXbaseTestCase {
     }
   }
   
+  public List<JvmOperation> getUncachedOperations(final ResolvedFeatures resolvedFeatures) {
+    LightweightTypeReference _type = resolvedFeatures.getType();
+    final ResolvedFeatures uncached = new ResolvedFeatures(_type, this.overrideTester) {
+      @Override
+      protected boolean isSealedOperationsCacheEnabled() {
+        return false;
+      }
+    };
+    List<IResolvedOperation> _allOperations = uncached.getAllOperations();
+    final Function1<IResolvedOperation, JvmOperation> _function = (IResolvedOperation it) -> {
+      return it.getDeclaration();
+    };
+    List<JvmOperation> _map = ListExtensions.<IResolvedOperation, JvmOperation>map(_allOperations, _function);
+    return IterableExtensions.<JvmOperation>toList(_map);
+  }
+  
   @Test
   public void testAllOperationsIncludeDeclaredOperations() {
     final ResolvedFeatures resolvedOperations = this.toResolvedOperations(ResolvedFeaturesTest.DerivedClass.class);
@@ -335,4 +366,77 @@ public class ResolvedFeaturesTest extends AbstractXbaseTestCase {
     String _humanReadableName_1 = _resolvedType_1.getHumanReadableName();
     Assert.assertEquals("ReferenceQueue<? super String>", _humanReadableName_1);
   }
+  
+  @Test
+  public void testSealedOperationsOfArrayList() {
+    final ResolvedFeatures resolvedFeatures = this.toResolvedOperations("null as java.util.ArrayList<String>");
+    List<JvmOperation> _uncachedOperations = this.getUncachedOperations(resolvedFeatures);
+    List<IResolvedOperation> _allOperations = resolvedFeatures.getAllOperations();
+    final Function1<IResolvedOperation, JvmOperation> _function = (IResolvedOperation it) -> {
+      return it.getDeclaration();
+    };
+    List<JvmOperation> _map = ListExtensions.<IResolvedOperation, JvmOperation>map(_allOperations, _function);
+    List<JvmOperation> _list = IterableExtensions.<JvmOperation>toList(_map);
+    Assert.assertEquals(_uncachedOperations, _list);
+    List<IResolvedOperation> _allOperations_1 = resolvedFeatures.getAllOperations();
+    final Function1<IResolvedOperation, Boolean> _function_1 = (IResolvedOperation it) -> {
+      JvmOperation _declaration = it.getDeclaration();
+      String _simpleName = _declaration.getSimpleName();
+      return Boolean.valueOf(Objects.equal(_simpleName, "stream"));
+    };
+    final IResolvedOperation stream = IterableExtensions.<IResolvedOperation>findFirst(_allOperations_1, _function_1);
+    LightweightTypeReference _resolvedReturnType = stream.getResolvedReturnType();
+    String _humanReadableName = _resolvedReturnType.getHumanReadableName();
+    Assert.assertEquals("Stream<String>", _humanReadableName);
+  }
+  
+  @Test
+  public void testSealedOperationsOfGenericType_01() {
+    String _canonicalName = ResolvedFeaturesTest.GenericDerivedClass.class.getCanonicalName();
+    String _plus = ("null as " + _canonicalName);
+    String _plus_1 = (_plus + "<String>");
+    final ResolvedFeatures resolvedFeatures = this.toResolvedOperations(_plus_1);
+    List<JvmOperation> _uncachedOperations = this.getUncachedOperations(resolvedFeatures);
+    List<IResolvedOperation> _allOperations = resolvedFeatures.getAllOperations();
+    final Function1<IResolvedOperation, JvmOperation> _function = (IResolvedOperation it) -> {
+      return it.getDeclaration();
+    };
+    List<JvmOperation> _map = ListExtensions.<IResolvedOperation, JvmOperation>map(_allOperations, _function);
+    List<JvmOperation> _list = IterableExtensions.<JvmOperation>toList(_map);
+    Assert.assertEquals(_uncachedOperations, _list);
+    List<IResolvedOperation> _allOperations_1 = resolvedFeatures.getAllOperations();
+    final Function1<IResolvedOperation, Boolean> _function_1 = (IResolvedOperation it) -> {
+      JvmOperation _declaration = it.getDeclaration();
+      String _simpleName = _declaration.getSimpleName();
+      return Boolean.valueOf(Objects.equal(_simpleName, "overloaded"));
+    };
+    Iterable<IResolvedOperation> _filter = IterableExtensions.<IResolvedOperation>filter(_allOperations_1, _function_1);
+    int _size = IterableExtensions.size(_filter);
+    Assert.assertEquals(1, _size);
+  }
+  
+  @Test
+  public void testSealedOperationsOfGenericType_02() {
+    String _canonicalName = ResolvedFeaturesTest.GenericDerivedClass.class.getCanonicalName();
+    String _plus = ("null as " + _canonicalName);
+    String _plus_1 = (_plus + "<Integer>");
+    final ResolvedFeatures resolvedFeatures = this.toResolvedOperations(_plus_1);
+    List<JvmOperation> _uncachedOperations = this.getUncachedOperations(resolvedFeatures);
+    List<IResolvedOperation> _allOperations = resolvedFeatures.getAllOperations();
+    final Function1<IResolvedOperation, JvmOperation> _function = (IResolvedOperation it) -> {
+      return it.getDeclaration();
+    };
+    List<JvmOperation> _map = ListExtensions.<IResolvedOperation, JvmOperation>map(_allOperations, _function);
+    List<JvmOperation> _list = IterableExtensions.<JvmOperation>toList(_map);
+    Assert.assertEquals(_uncachedOperations, _list);
+    List<IResolvedOperation> _allOperations_1 = resolvedFeatures.getAllOperations();
+    final Function1<IResolvedOperation, Boolean> _function_1 = (IResolvedOperation it) -> {
+      JvmOperation _declaration = it.getDeclaration();
+      String _simpleName = _declaration.getSimpleName();
+      return Boolean.valueOf(Objects.equal(_simpleName, "overloaded"));
+    };
+    Iterable<IResolvedOperation> _filter = IterableExtensions.<IResolvedOperation>filter(_allOperations_1, _function_1);
+    int _size = IterableExtensions.size(_filter);
+    Assert.assertEquals(2, _size);
+  }
 }
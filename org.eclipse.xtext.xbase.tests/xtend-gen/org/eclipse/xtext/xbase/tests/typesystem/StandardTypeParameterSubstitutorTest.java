@@ -10,10 +10,14 @@ package org.eclipse.xtext.xbase.tests.typesystem;
 import com.google.inject.Inject;
 import java.util.Map;
 import java.util.Set;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.common.types.JvmGenericType;
+import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
 import org.eclipse.xtext.xbase.XCastedExpression;
 import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
@@ -58,6 +62,63 @@ public class StandardTypeParameterSubstitutorTest extends AbstractXbaseTestCase
     Assert.assertEquals("Object[]", _simpleName);
   }
   
+  @Test
+  public void testUnmappedTypeParameterIsNotCopied() {
+    final LightweightTypeReference typeReference = this.toTypeReference("Iterable<String>");
+    DeclaratorTypeArgumentCollector _declaratorTypeArgumentCollector = new DeclaratorTypeArgumentCollector();
+    final Map<JvmTypeParameter, LightweightMergedBoundTypeArgument> mapping = _declaratorTypeArgumentCollector.getTypeParameterMapping(typeReference);
+    final ITypeReferenceOwner owner = typeReference.getOwner();
+    LightweightTypeReference _typeReference = this.toTypeReference("java.util.List<String>");
+    JvmType _type = _typeReference.getType();
+    final JvmGenericType listType = ((JvmGenericType) _type);
+    final ParameterizedTypeReference original = owner.newParameterizedTypeReference(listType);
+    EList<JvmTypeParameter> _typeParameters = listType.getTypeParameters();
+    JvmTypeParameter _head = IterableExtensions.<JvmTypeParameter>head(_typeParameters);
+    ParameterizedTypeReference _newParameterizedTypeReference = owner.newParameterizedTypeReference(_head);
+    original.addTypeArgument(_newParameterizedTypeReference);
+    String _simpleName = original.getSimpleName();
+    Assert.assertEquals("List<E>", _simpleName);
+    final StandardTypeParameterSubstitutor substitutor = new StandardTypeParameterSubstitutor(mapping, owner);
+    LightweightTypeReference _substitute = substitutor.substitute(original);
+    Assert.assertSame(original, _substitute);
+    final ParameterizedTypeReference mapped = owner.newParameterizedTypeReference(listType);
+    Set<JvmTypeParameter> _keySet = mapping.keySet();
+    JvmTypeParameter _head_1 = IterableExtensions.<JvmTypeParameter>head(_keySet);
+    ParameterizedTypeReference _newParameterizedTypeReference_1 = owner.newParameterizedTypeReference(_head_1);
+    mapped.addTypeArgument(_newParameterizedTypeReference_1);
+    final LightweightTypeReference substituted = substitutor.substitute(mapped);
+    Assert.assertNotSame(mapped, substituted);
+    String _simpleName_1 = substituted.getSimpleName();
+    Assert.assertEquals("List<String>", _simpleName_1);
+  }
+  
+  @Test
+  public void testEmptyMapping() {
+    LightweightTypeReference _typeReference = this.toTypeReference("Iterable<String>");
+    final ITypeReferenceOwner owner = _typeReference.getOwner();
+    Map<JvmTypeParameter, LightweightMergedBoundTypeArgument> _emptyMap = CollectionLiterals.<JvmTypeParameter, LightweightMergedBoundTypeArgument>emptyMap();
+    final StandardTypeParameterSubstitutor substitutor = new StandardTypeParameterSubstitutor(_emptyMap, owner);
+    final LightweightTypeReference resolved = this.toTypeReference("String");
+    LightweightTypeReference _substitute = substitutor.substitute(resolved);
+    Assert.assertSame(resolved, _substitute);
+    final LightweightTypeReference listType = this.toTypeReference("java.util.List<String>");
+    JvmType _type = listType.getType();
+    EList<JvmTypeParameter> _typeParameters = ((JvmGenericType) _type).getTypeParameters();
+    final JvmTypeParameter typeParameter = IterableExtensions.<JvmTypeParameter>head(_typeParameters);
+    final ParameterizedTypeReference unresolved = owner.newParameterizedTypeReference(typeParameter);
+    LightweightTypeReference _substitute_1 = substitutor.substitute(unresolved);
+    Assert.assertNotSame(unresolved, _substitute_1);
+    ITypeReferenceOwner _owner = listType.getOwner();
+    final ParameterizedTypeReference foreign = _owner.newParameterizedTypeReference(typeParameter);
+    boolean _isOwnedBy = foreign.isOwnedBy(owner);
+    Assert.assertFalse(_isOwnedBy);
+    final LightweightTypeReference copied = substitutor.substitute(foreign);
+    ITypeReferenceOwner _owner_1 = copied.getOwner();
+    Assert.assertSame(owner, _owner_1);
+    String _simpleName = copied.getSimpleName();
+    Assert.assertEquals("E", _simpleName);
+  }
+  
   protected LightweightTypeReference substituteInArrayContext(final String componentType) {
     StringConcatenation _builder = new StringConcatenation();
     _builder.append("Iterable<");
@@ -7,7 +7,9 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.compiler;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -46,6 +48,7 @@ import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.resource.ILocationInFileProvider;
 import org.eclipse.xtext.util.ITextRegionWithLineInformation;
+import org.eclipse.xtext.util.Strings;
 import org.eclipse.xtext.util.TextRegionWithLineInformation;
 import org.eclipse.xtext.xbase.XAbstractFeatureCall;
 import org.eclipse.xtext.xbase.XAssignment;
@@ -57,10 +60,16 @@ import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.XFeatureCall;
 import org.eclipse.xtext.xbase.XInstanceOfExpression;
 import org.eclipse.xtext.xbase.XMemberFeatureCall;
+import org.eclipse.xtext.xbase.XUnaryOperation;
 import org.eclipse.xtext.xbase.XVariableDeclaration;
 import org.eclipse.xtext.xbase.XbasePackage;
 import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable;
+import org.eclipse.xtext.xbase.compiler.output.TreeAppendable;
+import org.eclipse.xtext.xbase.controlflow.ConstantConditionsInterpreter;
+import org.eclipse.xtext.xbase.controlflow.EvaluationContext;
+import org.eclipse.xtext.xbase.controlflow.IConstantEvaluationResult;
 import org.eclipse.xtext.xbase.featurecalls.IdentifiableSimpleNameProvider;
+import org.eclipse.xtext.xbase.interpreter.ConstantExpressionEvaluationException;
 import org.eclipse.xtext.xbase.jvmmodel.ILogicalContainerProvider;
 import org.eclipse.xtext.xbase.lib.IntegerExtensions;
 import org.eclipse.xtext.xbase.lib.LongExtensions;
@@ -94,6 +103,9 @@ public class FeatureCallCompiler extends LiteralsCompiler {
 	@Inject
 	private ILocationInFileProvider locationInFileProvider;
 	
+	@Inject
+	private ConstantConditionsInterpreter constantConditionsInterpreter;
+	
 	@Override
 	protected void internalToConvertedExpression(XExpression obj, ITreeAppendable appendable) {
 		if (obj instanceof XAbstractFeatureCall) {
@@ -130,6 +142,9 @@ public class FeatureCallCompiler extends LiteralsCompiler {
 					internalToJavaExpression(expr, appendable);
 				}
 			}, b, isReferenced);
+		} else if (getFoldedConstant(expr, b) != null) {
+			// a folded constant has no side effects and is always compiled as an expression
+			generateComment(expr, b, isReferenced);
 		} else if (expressionHelper.isShortCircuitOperation(expr)) {
 			final XBinaryOperation binaryOperation = (XBinaryOperation) expr;
 			final XExpression leftOperand = binaryOperation.getLeftOperand();
@@ -403,12 +418,16 @@ public class FeatureCallCompiler extends LiteralsCompiler {
 			if (featureCall.isTypeLiteral() || featureCall.isPackageFragment()) {
 				return false;
 			}
+			if (getFoldedConstant(featureCall, b) != null) {
+				return false;
+			}
 			// we need to prefer expressions for constant expressions, so they get compiled correctly.
 			// a binary or unary operator is constant if its method is annotated with @Inline(..., constantExpression=true)
 			// and all arguments don't require variableDeclarations.
 			if (isPotentialJavaOperation(featureCall)) {
 				JvmAnnotationReference inlineAnnotation = expressionHelper.findInlineAnnotation(featureCall);
-				if (inlineAnnotation == null)
+				boolean primitiveOperation = isPrimitiveOperation(featureCall);
+				if (inlineAnnotation == null && !primitiveOperation)
 					return true;
 				for (XExpression argument : featureCall.getActualArguments()) {
 					if (isVariableDeclarationRequired(argument, b)) {
@@ -421,6 +440,9 @@ public class FeatureCallCompiler extends LiteralsCompiler {
 						return true;
 					}
 				}
+				if (primitiveOperation) {
+					return false;
+				}
 				for (JvmAnnotationValue value: inlineAnnotation.getValues()) {
 					if (value instanceof JvmBooleanAnnotationValue && value.getValueName().equals("constantExpression")) {
 						EList<Boolean> values = ((JvmBooleanAnnotationValue )value).getValues();
@@ -557,15 +579,160 @@ public class FeatureCallCompiler extends LiteralsCompiler {
 					b.trace(call, false).append(referenceName);
 				}
 			} else {
-				featureCalltoJavaExpression(call, b, true);
+				String foldedConstant = getFoldedConstant(call, b);
+				if (foldedConstant != null) {
+					b.append(foldedConstant);
+				} else {
+					featureCalltoJavaExpression(call, b, true);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the Java literal for the given operator call if constant expressions should be folded
+	 * according to the {@link GeneratorConfig} and all operands are compile-time constants,
+	 * e.g. <code>3600000</code> for <code>60 * 60 * 1000</code>. Operands may be literals,
+	 * constant {@link JvmField fields} and other foldable operations. Returns <code>null</code> if
+	 * the operation cannot be folded.
+	 * 
+	 * The literal is computed once per operation and remembered in the shared state of the
+	 * {@link TreeAppendable}, since the compiler asks for it repeatedly while it compiles an operation.
+	 * 
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected String getFoldedConstant(XAbstractFeatureCall featureCall, ITreeAppendable b) {
+		GeneratorConfig config = b.getGeneratorConfig();
+		if (config == null || !config.isFoldConstantExpressions()) {
+			return null;
+		}
+		if (!(featureCall instanceof XBinaryOperation) && !(featureCall instanceof XUnaryOperation)) {
+			return null;
+		}
+		if (!(b instanceof TreeAppendable)) {
+			return computeFoldedConstant(featureCall);
+		}
+		Map<XExpression, String> foldedConstants = ((TreeAppendable) b).getState().getFoldedConstants();
+		if (foldedConstants.containsKey(featureCall)) {
+			return foldedConstants.get(featureCall);
+		}
+		String result = computeFoldedConstant(featureCall);
+		foldedConstants.put(featureCall, result);
+		return result;
+	}
+
+	/**
+	 * Evaluates the given operator call and returns its Java literal, or <code>null</code> if the
+	 * operation cannot be folded.
+	 * 
+	 * @see #getFoldedConstant(XAbstractFeatureCall, ITreeAppendable)
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected String computeFoldedConstant(XAbstractFeatureCall featureCall) {
+		if (featureCall instanceof XBinaryOperation) {
+			XBinaryOperation binaryOperation = (XBinaryOperation) featureCall;
+			if (binaryOperation.isReassignFirstArgument()) {
+				return null;
 			}
+			// Xbase compares boxed values with equals, which differs from Java for NaN and negative zero
+			if (isEqualityOperator(binaryOperation.getConcreteSyntaxFeatureName())
+					&& (isFloatingPoint(binaryOperation.getLeftOperand()) || isFloatingPoint(binaryOperation.getRightOperand()))) {
+				return null;
+			}
+		} else if (!(featureCall instanceof XUnaryOperation)) {
+			return null;
+		}
+		LightweightTypeReference type = getLightweightType(featureCall);
+		if (type == null) {
+			return null;
+		}
+		try {
+			EvaluationContext context = constantConditionsInterpreter.newEvaluationContext();
+			context.addResolvedTypes(featureCall.eResource(), getResolvedTypes(featureCall));
+			IConstantEvaluationResult<Object> result = constantConditionsInterpreter.evaluate(featureCall, context);
+			if (!result.isCompileTimeConstant() || !result.getValue().isPresent()) {
+				return null;
+			}
+			return toJavaLiteral(result.getValue().get(), type);
+		} catch (ConstantExpressionEvaluationException e) {
+			return null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		} catch (ArithmeticException e) {
+			// keep the division by zero at runtime
+			return null;
+		}
+	}
+
+	private boolean isEqualityOperator(String operator) {
+		return "==".equals(operator) || "!=".equals(operator) || "===".equals(operator) || "!==".equals(operator);
+	}
+
+	private boolean isFloatingPoint(/* @Nullable */ XExpression operand) {
+		if (operand == null) {
+			return false;
+		}
+		LightweightTypeReference type = getLightweightType(operand);
+		if (type == null) {
+			return false;
+		}
+		LightweightTypeReference primitive = type.getPrimitiveIfWrapperType();
+		return primitive.isType(Double.TYPE) || primitive.isType(Float.TYPE);
+	}
+
+	/**
+	 * Returns the Java literal for the given value if its Java type matches the type of the folded expression.
+	 * 
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected String toJavaLiteral(Object value, LightweightTypeReference type) {
+		if (value instanceof String && type.isType(String.class)) {
+			return "\"" + Strings.convertToJavaString((String) value, true) + "\"";
+		}
+		if (value instanceof Boolean && type.isType(Boolean.TYPE)) {
+			return value.toString();
+		}
+		if (value instanceof Integer && type.isType(Integer.TYPE)) {
+			return toSignedLiteral((Integer) value < 0, value.toString());
+		}
+		if (value instanceof Long && type.isType(Long.TYPE)) {
+			return toSignedLiteral((Long) value < 0, value + "L");
+		}
+		if (value instanceof Double && type.isType(Double.TYPE)) {
+			Double d = (Double) value;
+			if (d.isNaN() || d.isInfinite()) {
+				return null;
+			}
+			return toSignedLiteral(d.doubleValue() < 0 || 1 / d.doubleValue() < 0, d.toString());
+		}
+		if (value instanceof Float && type.isType(Float.TYPE)) {
+			Float f = (Float) value;
+			if (f.isNaN() || f.isInfinite()) {
+				return null;
+			}
+			return toSignedLiteral(f.floatValue() < 0 || 1 / f.floatValue() < 0, f.toString() + "f");
+		}
+		return null;
+	}
+
+	private String toSignedLiteral(boolean negative, String literal) {
+		if (negative) {
+			return "(" + literal + ")";
 		}
+		return literal;
 	}
 
 	protected void featureCalltoJavaExpression(final XAbstractFeatureCall call, ITreeAppendable b, boolean isExpressionContext) {
 		if (call instanceof XAssignment) {
 			assignmentToJavaExpression((XAssignment) call, b, isExpressionContext);
 		} else {
+			if (isPrimitiveOperation(call)) {
+				appendPrimitiveOperation(call, b);
+				return;
+			}
 			if (needMultiAssignment(call)) {
 				appendLeftOperand(call, b, isExpressionContext).append(" = ");
 			}
@@ -931,6 +1098,136 @@ public class FeatureCallCompiler extends LiteralsCompiler {
 		}
 	}
 
+	private static final List<Class<?>> NUMERIC_PRIMITIVES = Arrays.<Class<?>>asList(
+			Double.TYPE, Float.TYPE, Long.TYPE, Integer.TYPE, Short.TYPE, Byte.TYPE, Character.TYPE);
+
+	private static final List<String> ARITHMETIC_OPERATORS = Arrays.asList("+", "-", "*", "/", "%");
+
+	private static final List<String> COMPARISON_OPERATORS = Arrays.asList("<", "<=", ">", ">=");
+
+	/**
+	 * Whether the given call to an operator of the Xbase library can be compiled to a plain Java operator
+	 * on unboxed operands. This is the case for arithmetic operators and for comparisons of integral values
+	 * if all operands are primitives or their wrappers and the result of the Java operator has the
+	 * same type as the result of the library method. Operators that are already inlined as constant
+	 * expressions are not considered.
+	 * 
+	 * <p>
+	 * Examples are <code>Double + Integer</code> which is otherwise compiled to
+	 * <code>DoubleExtensions.operator_plus(Double, Number)</code>, or <code>Integer &lt; Integer</code> which
+	 * is otherwise compiled to <code>compareTo</code>. A <code>null</code> operand fails with
+	 * a {@link NullPointerException} when it is unboxed, just like in the library method.
+	 * </p>
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean isPrimitiveOperation(XAbstractFeatureCall call) {
+		String operator = call.getConcreteSyntaxFeatureName();
+		if (call instanceof XBinaryOperation) {
+			if (((XBinaryOperation) call).isReassignFirstArgument()) {
+				return false;
+			}
+			if (!ARITHMETIC_OPERATORS.contains(operator) && !COMPARISON_OPERATORS.contains(operator)) {
+				return false;
+			}
+		} else if (call instanceof XUnaryOperation) {
+			if (!"-".equals(operator)) {
+				return false;
+			}
+		} else {
+			return false;
+		}
+		JvmIdentifiableElement feature = call.getFeature();
+		if (!(feature instanceof JvmOperation) || !((JvmOperation) feature).isStatic()) {
+			return false;
+		}
+		JvmDeclaredType declaringType = ((JvmOperation) feature).getDeclaringType();
+		if (declaringType == null || !"org.eclipse.xtext.xbase.lib".equals(declaringType.getPackageName())) {
+			return false;
+		}
+		if (isConstantExpression(expressionHelper.findInlineAnnotation(call))) {
+			return false;
+		}
+		List<XExpression> arguments = call.getActualArguments();
+		Class<?> promoted = Integer.TYPE;
+		for (XExpression argument : arguments) {
+			Class<?> primitive = getNumericPrimitive(argument);
+			if (primitive == null) {
+				return false;
+			}
+			if (NUMERIC_PRIMITIVES.indexOf(primitive) < NUMERIC_PRIMITIVES.indexOf(promoted)) {
+				promoted = primitive;
+			}
+		}
+		LightweightTypeReference type = getLightweightType(call);
+		if (type == null) {
+			return false;
+		}
+		if (COMPARISON_OPERATORS.contains(operator)) {
+			// compareTo and the Java operators differ for NaN and negative zero
+			return (promoted == Integer.TYPE || promoted == Long.TYPE) && type.isType(Boolean.TYPE);
+		}
+		return type.isType(promoted);
+	}
+
+	private boolean isConstantExpression(/* @Nullable */ JvmAnnotationReference inlineAnnotation) {
+		if (inlineAnnotation == null) {
+			return false;
+		}
+		for (JvmAnnotationValue value: inlineAnnotation.getValues()) {
+			if (value instanceof JvmBooleanAnnotationValue && value.getValueName().equals("constantExpression")) {
+				EList<Boolean> values = ((JvmBooleanAnnotationValue) value).getValues();
+				return !values.isEmpty() && values.get(0);
+			}
+		}
+		return false;
+	}
+
+	/* @Nullable */
+	private Class<?> getNumericPrimitive(XExpression operand) {
+		LightweightTypeReference type = getLightweightType(operand);
+		if (type == null || !(type.isPrimitive() || type.isWrapper())) {
+			return null;
+		}
+		LightweightTypeReference primitive = type.getPrimitiveIfWrapperType();
+		for (Class<?> candidate : NUMERIC_PRIMITIVES) {
+			if (primitive.isType(candidate)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Appends the Java operator for an operation that was accepted by {@link #isPrimitiveOperation(XAbstractFeatureCall)}.
+	 * The operands are unboxed.
+	 * 
+	 * @since 2.11
+	 */
+	protected void appendPrimitiveOperation(XAbstractFeatureCall call, ITreeAppendable b) {
+		List<XExpression> arguments = getActualArguments(call);
+		String operator = call.getConcreteSyntaxFeatureName();
+		b.append("(");
+		if (arguments.size() == 1) {
+			b.append(operator);
+			appendUnboxedArgument(arguments.get(0), b);
+		} else {
+			appendUnboxedArgument(arguments.get(0), b);
+			b.append(" ").append(operator).append(" ");
+			appendUnboxedArgument(arguments.get(1), b);
+		}
+		b.append(")");
+	}
+
+	protected void appendUnboxedArgument(XExpression argument, ITreeAppendable b) {
+		LightweightTypeReference primitive = getLightweightType(argument).getPrimitiveIfWrapperType();
+		if (getReferenceName(argument, b) == null && isVariableDeclarationRequired(argument, b) && !canCompileToJavaExpression(argument, b)) {
+			compileAsJavaExpression(argument, b, primitive);
+		} else {
+			internalToConvertedExpression(argument, b, primitive);
+		}
+	}
+
 	private Pattern pattern = Pattern.compile("\\$(\\$|[0-9]+)");
 	
 	@Inject IBatchTypeResolver batchTypeResolver;
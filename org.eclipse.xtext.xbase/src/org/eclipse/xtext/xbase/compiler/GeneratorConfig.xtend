@@ -50,6 +50,19 @@ class GeneratorConfig {
 	 */
 	JavaVersion javaSourceVersion = JavaVersion.JAVA5
 	
+	/**
+	 * Whether operations on compile-time constants shall be folded into a single literal.
+	 * @since 2.11
+	 */
+	boolean foldConstantExpressions = false
+	
+	/**
+	 * Whether closures that do not capture any state shall be compiled to static fields of the enclosing type
+	 * instead of being instantiated on each evaluation. Only applies to Java versions prior to Java 8.
+	 * @since 2.11
+	 */
+	boolean hoistNonCapturingClosures = false
+	
 	/**
 	 * Copy the values of the given generator configuration.
 	 */
@@ -60,6 +73,8 @@ class GeneratorConfig {
 		this.includeDateInGeneratedAnnotation = other.includeDateInGeneratedAnnotation
 		this.generatedAnnotationComment = other.generatedAnnotationComment
 		this.javaSourceVersion = other.javaSourceVersion
+		this.foldConstantExpressions = other.foldConstantExpressions
+		this.hoistNonCapturingClosures = other.hoistNonCapturingClosures
 		return this
 	}
 
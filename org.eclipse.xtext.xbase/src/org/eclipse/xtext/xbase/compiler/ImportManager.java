@@ -14,6 +14,7 @@ import static org.eclipse.xtext.util.Strings.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,13 @@ public class ImportManager {
 
 	private Map<String, String> imports = newHashMap();
 
+	/**
+	 * The serialized names of the types that were already appended. Once a type was appended
+	 * either with its simple or its qualified name, later references to the same type will use
+	 * the same name since imports are never removed.
+	 */
+	private Map<JvmType, String> typeNames = new IdentityHashMap<JvmType, String>();
+
 	private boolean organizeImports;
 
 	private Set<String> thisTypeSimpleNames = Sets.newHashSet();
@@ -112,28 +120,45 @@ public class ImportManager {
 			appendType(((JvmArrayType) type).getComponentType(), builder);
 			builder.append("[]");
 		} else {
-			final String qualifiedName = type.getQualifiedName(innerTypeSeparator);
-			String nameToImport = qualifiedName;
-			String shortName = type.getSimpleName();
-			String outerShortName = shortName;
-			if (shouldUseQualifiedNestedName(qualifiedName)) {
-				JvmType outerContainer = type;
-				while (outerContainer.eContainer() instanceof JvmType) {
-					outerContainer = (JvmType) outerContainer.eContainer();
-				}
-				if (type != outerContainer) {
-					outerShortName = outerContainer.getSimpleName();
-					if(!thisTypeQualifiedNames.contains(outerContainer.getQualifiedName(innerTypeSeparator)) && thisTypeSimpleNames.contains(outerShortName)) {
-						outerShortName = qualifiedName;
-						shortName = qualifiedName;
-					} else {
-						nameToImport = outerContainer.getQualifiedName(innerTypeSeparator);
-						shortName = outerShortName + qualifiedName.substring(nameToImport.length());
-					}
+			String typeName = typeNames.get(type);
+			if (typeName == null) {
+				StringBuilder typeNameBuilder = new StringBuilder();
+				appendDeclaredType(type, typeNameBuilder);
+				typeName = typeNameBuilder.toString();
+				typeNames.put(type, typeName);
+			}
+			builder.append(typeName);
+		}
+	}
+
+	/**
+	 * Appends the name of a declared type and registers the import if necessary. The result
+	 * is remembered, this method is only invoked once per type.
+	 * 
+	 * @since 2.11
+	 */
+	protected void appendDeclaredType(final JvmType type, StringBuilder builder) {
+		final String qualifiedName = type.getQualifiedName(innerTypeSeparator);
+		String nameToImport = qualifiedName;
+		String shortName = type.getSimpleName();
+		String outerShortName = shortName;
+		if (shouldUseQualifiedNestedName(qualifiedName)) {
+			JvmType outerContainer = type;
+			while (outerContainer.eContainer() instanceof JvmType) {
+				outerContainer = (JvmType) outerContainer.eContainer();
+			}
+			if (type != outerContainer) {
+				outerShortName = outerContainer.getSimpleName();
+				if(!thisTypeQualifiedNames.contains(outerContainer.getQualifiedName(innerTypeSeparator)) && thisTypeSimpleNames.contains(outerShortName)) {
+					outerShortName = qualifiedName;
+					shortName = qualifiedName;
+				} else {
+					nameToImport = outerContainer.getQualifiedName(innerTypeSeparator);
+					shortName = outerShortName + qualifiedName.substring(nameToImport.length());
 				}
 			}
-			appendType(qualifiedName, shortName, outerShortName, nameToImport, builder);
 		}
+		appendType(qualifiedName, shortName, outerShortName, nameToImport, builder);
 	}
 
 	protected boolean shouldUseQualifiedNestedName(String identifier) {
@@ -64,6 +64,7 @@ import org.eclipse.xtext.resource.ILocationInFileProvider
 import org.eclipse.xtext.scoping.IScopeProvider
 import org.eclipse.xtext.util.ITextRegionWithLineInformation
 import org.eclipse.xtext.util.Strings
+import org.eclipse.xtext.util.internal.Stopwatches
 import org.eclipse.xtext.validation.Issue
 import org.eclipse.xtext.xbase.XExpression
 import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable
@@ -126,8 +127,15 @@ class JvmModelGenerator implements IGenerator {
 	def dispatch void internalDoGenerate(JvmDeclaredType type, IFileSystemAccess fsa) {
 		if (DisableCodeGenerationAdapter.isDisabled(type))
 			return;
-		if(type.qualifiedName != null)
-			fsa.generateFile(type.qualifiedName.replace('.', '/') + '.java', type.generateType(generatorConfigProvider.get(type)))
+		if(type.qualifiedName != null) {
+			val task = Stopwatches.forTask("JvmModelGenerator.generateType")
+			task.start
+			try {
+				fsa.generateFile(type.qualifiedName.replace('.', '/') + '.java', type.generateType(generatorConfigProvider.get(type)))
+			} finally {
+				task.stop
+			}
+		}
 	}
 	
 	protected def createImportManager(JvmDeclaredType type) {
@@ -179,6 +187,7 @@ class JvmModelGenerator implements IGenerator {
 	
 	def generateMembersInBody(JvmDeclaredType it, ITreeAppendable appendable, GeneratorConfig config) {
 		appendable.append('{').increaseIndentation
+		compiler.compileHoistedClosures(it, membersToBeCompiled, appendable)
 		appendable.forEach(membersToBeCompiled, [
 				separator = [ITreeAppendable it | newLine]
 			], [
@@ -15,19 +15,24 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.GrammarUtil;
 import org.eclipse.xtext.Keyword;
 import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmEnumerationLiteral;
+import org.eclipse.xtext.common.types.JvmExecutable;
+import org.eclipse.xtext.common.types.JvmFeature;
 import org.eclipse.xtext.common.types.JvmFormalParameter;
 import org.eclipse.xtext.common.types.JvmGenericType;
 import org.eclipse.xtext.common.types.JvmIdentifiableElement;
+import org.eclipse.xtext.common.types.JvmMember;
 import org.eclipse.xtext.common.types.JvmOperation;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
@@ -93,6 +98,7 @@ import org.eclipse.xtext.xbase.util.XSwitchExpressions;
 import com.google.common.base.Objects;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.inject.Inject;
 
 /**
@@ -1564,6 +1570,10 @@ public class XbaseCompiler extends FeatureCallCompiler {
 	protected void _toJavaStatement(final XClosure closure, final ITreeAppendable b, boolean isReferenced) {
 		if (!isReferenced)
 			throw new IllegalArgumentException("a closure definition does not cause any side-effects");
+		if (b.hasName(closure)) {
+			// the closure was hoisted to a static field, see compileHoistedClosures
+			return;
+		}
 		LightweightTypeReference type = getLightweightType(closure);
 		JvmOperation operation = findImplementingOperation(type);
 		if (operation != null) {
@@ -1782,6 +1792,164 @@ public class XbaseCompiler extends FeatureCallCompiler {
 		return true;
 	}
 	
+	/**
+	 * Compiles the closures in the bodies of the given members that do not capture any state to private static
+	 * final fields of the given type. The usages of these closures refer to the field instead of creating a new
+	 * instance on each evaluation. Closures are only hoisted if the {@link GeneratorConfig} asks for it and the
+	 * target Java version does not support lambdas.
+	 * 
+	 * The fields are declared as synthetic variables in the current scope of the appendable, so this method
+	 * has to be called before the members are generated.
+	 * 
+	 * @since 2.11
+	 */
+	public void compileHoistedClosures(JvmDeclaredType type, Iterable<? extends JvmMember> members, ITreeAppendable b) {
+		GeneratorConfig config = b.getGeneratorConfig();
+		if (config == null || !config.isHoistNonCapturingClosures() || config.getJavaSourceVersion().isAtLeast(JAVA8)
+				|| !canDeclareHoistedClosures(type)) {
+			return;
+		}
+		Map<XClosure, String> fieldNames = Maps.newLinkedHashMap();
+		Set<String> usedNames = null;
+		for (JvmMember member : members) {
+			XExpression expression = getLogicalContainerProvider().getAssociatedExpression(member);
+			if (expression == null || !canHoistClosures(member, expression)) {
+				continue;
+			}
+			TreeIterator<EObject> iterator = EcoreUtil2.eAll(expression);
+			while (iterator.hasNext()) {
+				EObject object = iterator.next();
+				if (object instanceof XClosure && isNonCapturing((XClosure) object)) {
+					if (usedNames == null) {
+						usedNames = newHashSet();
+						for (JvmFeature feature : type.getAllFeatures()) {
+							usedNames.add(feature.getSimpleName());
+						}
+					}
+					String fieldName = "_function";
+					for (int i = 1; usedNames.contains(fieldName); i++) {
+						fieldName = "_function_" + i;
+					}
+					usedNames.add(fieldName);
+					fieldNames.put((XClosure) object, fieldName);
+				}
+			}
+		}
+		if (fieldNames.isEmpty()) {
+			return;
+		}
+		// declare all fields before any of them is compiled, so nested closures refer to their field, too
+		String typeName = makeJavaIdentifier(type.getSimpleName());
+		for (Map.Entry<XClosure, String> entry : fieldNames.entrySet()) {
+			b.declareSyntheticVariable(entry.getKey(), typeName + "." + entry.getValue());
+		}
+		for (Map.Entry<XClosure, String> entry : fieldNames.entrySet()) {
+			XClosure closure = entry.getKey();
+			LightweightTypeReference closureType = getLightweightType(closure);
+			JvmOperation operation = findImplementingOperation(closureType);
+			b.newLine().append("private static final ");
+			b.append(closureType);
+			b.append(" ").append(entry.getValue()).append(" = ");
+			toAnonymousClass(closure, b.trace(closure, false), closureType, operation);
+			b.append(";");
+		}
+		b.newLine();
+	}
+	
+	/**
+	 * Whether the given type may declare static fields, which is not the case for interfaces, inner classes and local
+	 * types. Generic types are not supported since the closures may refer to their type parameters.
+	 */
+	private boolean canDeclareHoistedClosures(JvmDeclaredType type) {
+		if (!(type instanceof JvmGenericType)) {
+			return false;
+		}
+		JvmGenericType genericType = (JvmGenericType) type;
+		return !genericType.isInterface() && !genericType.isLocal()
+				&& (genericType.getDeclaringType() == null || genericType.isStatic())
+				&& genericType.getTypeParameters().isEmpty();
+	}
+	
+	/**
+	 * Whether the closures in the given body of the member may be hoisted. Local types are only visible in the body
+	 * and the type parameters of generic methods are not accessible from a static field.
+	 */
+	private boolean canHoistClosures(JvmMember member, XExpression expression) {
+		if (member instanceof JvmExecutable && !((JvmExecutable) member).getTypeParameters().isEmpty()) {
+			return false;
+		}
+		TreeIterator<EObject> iterator = EcoreUtil2.eAll(expression);
+		while (iterator.hasNext()) {
+			EObject object = iterator.next();
+			if (object instanceof XConstructorCall) {
+				JvmConstructor constructor = ((XConstructorCall) object).getConstructor();
+				if (constructor == null || constructor.eIsProxy() || constructor.getDeclaringType().isLocal()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Whether the given closure neither refers to the enclosing instance nor to local variables and parameters that
+	 * are declared outside of the closure. A single instance of such a closure can be shared by all evaluations.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean isNonCapturing(XClosure closure) {
+		LightweightTypeReference type = getLightweightType(closure);
+		if (type == null || findImplementingOperation(type) == null) {
+			return false;
+		}
+		TreeIterator<EObject> iterator = closure.eAllContents();
+		while (iterator.hasNext()) {
+			EObject object = iterator.next();
+			if (object instanceof XAbstractFeatureCall) {
+				if (isCapturing((XAbstractFeatureCall) object, closure)) {
+					return false;
+				}
+			} else if (object instanceof XConstructorCall) {
+				JvmConstructor constructor = ((XConstructorCall) object).getConstructor();
+				if (constructor == null || constructor.eIsProxy()) {
+					return false;
+				}
+				JvmDeclaredType declaringType = constructor.getDeclaringType();
+				// instances of inner classes refer to their enclosing instance
+				if (declaringType.getDeclaringType() != null && !declaringType.isStatic()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+	
+	private boolean isCapturing(XAbstractFeatureCall featureCall, XClosure closure) {
+		JvmIdentifiableElement feature = featureCall.getFeature();
+		if (feature == null || feature.eIsProxy()) {
+			return true;
+		}
+		XExpression implicitReceiver = featureCall.getImplicitReceiver();
+		if (implicitReceiver instanceof XAbstractFeatureCall && isCapturing((XAbstractFeatureCall) implicitReceiver, closure)) {
+			return true;
+		}
+		XExpression implicitFirstArgument = featureCall.getImplicitFirstArgument();
+		if (implicitFirstArgument instanceof XAbstractFeatureCall && isCapturing((XAbstractFeatureCall) implicitFirstArgument, closure)) {
+			return true;
+		}
+		if (feature instanceof JvmType) {
+			// 'this' and 'super'
+			return !featureCall.isTypeLiteral() && !featureCall.isPackageFragment();
+		}
+		if (feature instanceof JvmConstructor) {
+			return true;
+		}
+		if (feature instanceof JvmFeature) {
+			return !((JvmFeature) feature).isStatic() && featureCall instanceof XFeatureCall && implicitReceiver == null;
+		}
+		return !EcoreUtil.isAncestor(closure, feature);
+	}
+	
 	@Override
 	protected boolean internalCanCompileToJavaExpression(XExpression expression, ITreeAppendable appendable) {
 		if (expression instanceof XListLiteral) {
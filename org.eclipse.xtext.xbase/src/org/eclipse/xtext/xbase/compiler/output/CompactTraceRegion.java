@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.compiler.output;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.xtext.generator.trace.AbstractTraceRegion;
+import org.eclipse.xtext.generator.trace.ILocationData;
+import org.eclipse.xtext.generator.trace.LocationData;
+import org.eclipse.xtext.generator.trace.SourceRelativeURI;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+
+/**
+ * A trace region whose data is stored in parallel int arrays that are shared by all regions of the tree.
+ *
+ * The regions of a tree are numbered in pre-order. For each region, the index of its parent, the offset,
+ * the length and the line numbers are kept in arrays. The associated locations are stored in another set
+ * of arrays and their source paths are interned in a table that is referenced by index. A region object
+ * only knows its index, its associated locations are created on demand. Since this is a regular {@link AbstractTraceRegion}, the compact
+ * representation can be passed to all clients of trace regions, e.g. the
+ * {@link org.eclipse.xtext.generator.trace.LineMappingProvider} or the
+ * {@link org.eclipse.xtext.generator.trace.TraceRegionSerializer}.
+ *
+ * Use {@link #compact(AbstractTraceRegion)} to create a compact copy of a trace region that is kept in memory,
+ * e.g. by the {@link TraceCompactingInMemoryFileSystemAccess}.
+ *
+ * @since 2.11
+ */
+public class CompactTraceRegion extends AbstractTraceRegion {
+
+	/**
+	 * The packed data of a complete tree of trace regions.
+	 */
+	protected static class Data {
+
+		private final int[] parents;
+		private final int[] offsets;
+		private final int[] lengths;
+		private final int[] lineNumbers;
+		private final int[] endLineNumbers;
+		private final BitSet useForDebugging;
+		/**
+		 * The index of the first location of each region. Contains one additional element
+		 * to mark the end of the locations of the last region.
+		 */
+		private final int[] firstLocations;
+		private final int[] locationOffsets;
+		private final int[] locationLengths;
+		private final int[] locationLineNumbers;
+		private final int[] locationEndLineNumbers;
+		private final int[] locationPaths;
+		private final SourceRelativeURI[] paths;
+
+		protected Data(int regionCount, int locationCount, int pathCount) {
+			parents = new int[regionCount];
+			offsets = new int[regionCount];
+			lengths = new int[regionCount];
+			lineNumbers = new int[regionCount];
+			endLineNumbers = new int[regionCount];
+			useForDebugging = new BitSet(regionCount);
+			firstLocations = new int[regionCount + 1];
+			locationOffsets = new int[locationCount];
+			locationLengths = new int[locationCount];
+			locationLineNumbers = new int[locationCount];
+			locationEndLineNumbers = new int[locationCount];
+			locationPaths = new int[locationCount];
+			paths = new SourceRelativeURI[pathCount];
+		}
+
+		public int getRegionCount() {
+			return offsets.length;
+		}
+
+		public int getLocationCount() {
+			return locationOffsets.length;
+		}
+
+		protected ILocationData getLocation(int location) {
+			int path = locationPaths[location];
+			return new LocationData(
+					locationOffsets[location], locationLengths[location],
+					locationLineNumbers[location], locationEndLineNumbers[location],
+					path == -1 ? null : paths[path]);
+		}
+
+	}
+
+	private final Data data;
+
+	private final int index;
+
+	protected CompactTraceRegion(/* @Nullable */ AbstractTraceRegion parent, Data data, int index) {
+		super(parent);
+		this.data = data;
+		this.index = index;
+	}
+
+	/**
+	 * Creates a compact copy of the given tree of trace regions.
+	 */
+	public static CompactTraceRegion compact(AbstractTraceRegion root) {
+		Map<SourceRelativeURI, Integer> paths = Maps.newLinkedHashMap();
+		int[] counts = count(root, new int[2], paths);
+		int regionCount = counts[0];
+		int locationCount = counts[1];
+		Data data = new Data(regionCount, locationCount, paths.size());
+		paths.keySet().toArray(data.paths);
+		data.firstLocations[regionCount] = pack(root, -1, 0, 0, data, paths)[1];
+		return createRegions(data);
+	}
+
+	private static int[] count(AbstractTraceRegion region, int[] counts, Map<SourceRelativeURI, Integer> paths) {
+		counts[0]++;
+		for (ILocationData location : region.getAssociatedLocations()) {
+			counts[1]++;
+			SourceRelativeURI path = location.getSrcRelativePath();
+			if (path != null && !paths.containsKey(path)) {
+				paths.put(path, paths.size());
+			}
+		}
+		for (AbstractTraceRegion child : region.getNestedRegions()) {
+			count(child, counts, paths);
+		}
+		return counts;
+	}
+
+	/**
+	 * Writes the given region and its children in pre-order into the data.
+	 * Returns the next free region index and the next free location index.
+	 */
+	private static int[] pack(AbstractTraceRegion region, int parent, int regionIndex, int locationIndex, Data data, Map<SourceRelativeURI, Integer> paths) {
+		data.parents[regionIndex] = parent;
+		data.offsets[regionIndex] = region.getMyOffset();
+		data.lengths[regionIndex] = region.getMyLength();
+		data.lineNumbers[regionIndex] = region.getMyLineNumber();
+		data.endLineNumbers[regionIndex] = region.getMyEndLineNumber();
+		data.useForDebugging.set(regionIndex, region.isUseForDebugging());
+		data.firstLocations[regionIndex] = locationIndex;
+		int nextLocation = locationIndex;
+		for (ILocationData location : region.getAssociatedLocations()) {
+			data.locationOffsets[nextLocation] = location.getOffset();
+			data.locationLengths[nextLocation] = location.getLength();
+			data.locationLineNumbers[nextLocation] = location.getLineNumber();
+			data.locationEndLineNumbers[nextLocation] = location.getEndLineNumber();
+			SourceRelativeURI path = location.getSrcRelativePath();
+			data.locationPaths[nextLocation] = path == null ? -1 : paths.get(path);
+			nextLocation++;
+		}
+		int[] next = new int[] { regionIndex + 1, nextLocation };
+		for (AbstractTraceRegion child : region.getNestedRegions()) {
+			next = pack(child, regionIndex, next[0], next[1], data, paths);
+		}
+		return next;
+	}
+
+	protected static CompactTraceRegion createRegions(Data data) {
+		CompactTraceRegion[] regions = new CompactTraceRegion[data.getRegionCount()];
+		for (int i = 0; i < regions.length; i++) {
+			int parent = data.parents[i];
+			regions[i] = new CompactTraceRegion(parent == -1 ? null : regions[parent], data, i);
+		}
+		return regions[0];
+	}
+
+	@Override
+	public int getMyOffset() {
+		return data.offsets[index];
+	}
+
+	@Override
+	public int getMyLength() {
+		return data.lengths[index];
+	}
+
+	@Override
+	public int getMyLineNumber() {
+		return data.lineNumbers[index];
+	}
+
+	@Override
+	public int getMyEndLineNumber() {
+		return data.endLineNumbers[index];
+	}
+
+	@Override
+	public boolean isUseForDebugging() {
+		return data.useForDebugging.get(index);
+	}
+
+	@Override
+	public List<ILocationData> getAssociatedLocations() {
+		int first = data.firstLocations[index];
+		int end = data.firstLocations[index + 1];
+		switch(end - first) {
+			case 0:
+				return Collections.emptyList();
+			case 1:
+				return Collections.singletonList(data.getLocation(first));
+			default:
+				ImmutableList.Builder<ILocationData> result = ImmutableList.builder();
+				for (int i = first; i < end; i++) {
+					result.add(data.getLocation(i));
+				}
+				return result.build();
+		}
+	}
+
+	/**
+	 * Returns the source paths that are referenced by the locations of this tree of regions.
+	 */
+	public List<SourceRelativeURI> getSourcePaths() {
+		return Collections.unmodifiableList(Arrays.asList(data.paths));
+	}
+
+	@Override
+	public CompactTraceRegion getRoot() {
+		return (CompactTraceRegion) super.getRoot();
+	}
+
+}
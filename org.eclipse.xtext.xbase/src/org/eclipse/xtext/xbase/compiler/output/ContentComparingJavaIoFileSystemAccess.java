@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.compiler.output;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+
+/**
+ * A {@link StreamingJavaIoFileSystemAccess} that does not touch files whose content did not change.
+ *
+ * The generated content is compared with the content of the existing file while it is streamed.
+ * If both are equal, the file is not written again and keeps its time stamp, thus incremental Java
+ * compilers downstream do not consider it as changed. Once the first difference is found, the
+ * remaining content is written from that position on. The existing file is read instead of
+ * maintaining an index with hashes of the generated content, so files that were modified or deleted
+ * by other tools are always written again.
+ *
+ * @since 2.11
+ */
+public class ContentComparingJavaIoFileSystemAccess extends StreamingJavaIoFileSystemAccess {
+
+	@Override
+	protected void writeContents(File file, CharSequence contents, String encoding) throws IOException {
+		if (!file.isFile()) {
+			super.writeContents(file, contents, encoding);
+			return;
+		}
+		Writer writer = new BufferedWriter(new OutputStreamWriter(new ComparingOutputStream(file), encoding));
+		try {
+			writeContents(writer, contents);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * An output stream that compares the written bytes with the content of an existing file. The file
+	 * is only modified if the bytes differ from its content. In that case the bytes are written from
+	 * the first difference on, and the file is truncated to the written length when the stream is closed.
+	 */
+	protected static class ComparingOutputStream extends OutputStream {
+
+		private final RandomAccessFile file;
+
+		private byte[] buffer = new byte[0];
+
+		private boolean changed = false;
+
+		public ComparingOutputStream(File file) throws IOException {
+			this.file = new RandomAccessFile(file, "rw");
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (changed) {
+				file.write(b, off, len);
+				return;
+			}
+			long position = file.getFilePointer();
+			if (buffer.length < len) {
+				buffer = new byte[len];
+			}
+			int read = 0;
+			while (read < len) {
+				int count = file.read(buffer, read, len - read);
+				if (count < 0) {
+					break;
+				}
+				read += count;
+			}
+			for (int i = 0; i < len; i++) {
+				if (i == read || buffer[i] != b[off + i]) {
+					changed = true;
+					file.seek(position + i);
+					file.write(b, off + i, len - i);
+					return;
+				}
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				long length = file.getFilePointer();
+				if (length != file.length()) {
+					file.setLength(length);
+				}
+			} finally {
+				file.close();
+			}
+		}
+	}
+
+}
@@ -8,14 +8,18 @@
 package org.eclipse.xtext.xbase.compiler.output;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.compiler.ImportManager;
 import org.eclipse.xtext.xbase.compiler.ScopeStack;
 
+import com.google.common.collect.Maps;
+
 /**
  * @author Sebastian Zarnekow - Initial contribution and API
  * @noextend This class is not intended to be subclassed by clients.
@@ -30,6 +34,7 @@ public class SharedAppendableState {
 	private final ImportManager importManager;
 	private final Resource resource;
 	private GeneratorConfig generatorConfig;
+	private Map<XExpression, String> foldedConstants;
 	
 	public SharedAppendableState(String indentation, String lineSeparator, ImportManager importManager, Resource resource) {
 		this.resource = resource;
@@ -170,4 +175,17 @@ public class SharedAppendableState {
 		this.generatorConfig = generatorConfig;
 	}
 
+	/**
+	 * The folded constants of the operations that were compiled with this state. An operation
+	 * that cannot be folded is mapped to <code>null</code>.
+	 * 
+	 * @since 2.11
+	 */
+	public Map<XExpression, String> getFoldedConstants() {
+		if (foldedConstants == null) {
+			foldedConstants = Maps.newHashMap();
+		}
+		return foldedConstants;
+	}
+
 }
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.compiler.output;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+/**
+ * A {@link JavaIoFileSystemAccess} that streams the content of a {@link TreeAppendable} to the target file.
+ *
+ * The default file system access converts the generated content into a single string before
+ * it is encoded and written. For very large generated types, the tree of the appendable and its string
+ * representation are thereby held in memory at the same time. This implementation writes the
+ * children of the appendable one after another through a buffered writer. Other contents are
+ * written as before. Trace regions are still computed from the appendable after the file was written.
+ *
+ * Clients opt in by binding this class as the {@link JavaIoFileSystemAccess} and
+ * {@link org.eclipse.xtext.generator.AbstractFileSystemAccess2}.
+ *
+ * @since 2.11
+ */
+public class StreamingJavaIoFileSystemAccess extends JavaIoFileSystemAccess {
+
+	private IFileCallback callBack;
+
+	@Override
+	public void setCallBack(IFileCallback callBack) {
+		super.setCallBack(callBack);
+		this.callBack = callBack;
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputCfgName, CharSequence contents) throws RuntimeIOException {
+		File file = getFile(fileName, outputCfgName);
+		if (!getOutputConfig(outputCfgName).isOverrideExistingResources() && file.exists()) {
+			return;
+		}
+		createFolder(file.getParentFile());
+		try {
+			String encoding = getEncoding(getURI(fileName, outputCfgName));
+			writeContents(file, postProcess(fileName, outputCfgName, contents, encoding), encoding);
+			if (callBack != null) {
+				callBack.fileAdded(file);
+			}
+			if (isWriteTrace()) {
+				generateTrace(fileName, outputCfgName, contents);
+			}
+		} catch (IOException e) {
+			throw new RuntimeIOException(e);
+		}
+	}
+
+	/**
+	 * Writes the given contents to the file. A {@link TreeAppendable} is written without converting
+	 * it to a string first.
+	 */
+	protected void writeContents(File file, CharSequence contents, String encoding) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), encoding));
+		try {
+			writeContents(writer, contents);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Appends the given contents to the writer. A {@link TreeAppendable} is written without converting
+	 * it to a string first.
+	 */
+	protected void writeContents(Writer writer, CharSequence contents) throws IOException {
+		if (contents instanceof TreeAppendable) {
+			((TreeAppendable) contents).writeTo(writer);
+		} else {
+			writer.append(contents);
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.compiler.output;
+
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
+import org.eclipse.xtext.generator.trace.AbstractTraceRegion;
+import org.eclipse.xtext.generator.trace.ITraceRegionProvider;
+import org.eclipse.xtext.generator.trace.TraceNotFoundException;
+
+/**
+ * An {@link InMemoryFileSystemAccess} that keeps the traces of the generated files in their
+ * {@link CompactTraceRegion compact} representation.
+ *
+ * The default implementation keeps the generated content as is, e.g. the complete tree of a
+ * {@link TreeAppendable}, and its trace regions are computed from that tree whenever they are requested.
+ * This implementation replaces traced content with its string and a compact copy of its trace regions.
+ *
+ * @since 2.11
+ */
+public class TraceCompactingInMemoryFileSystemAccess extends InMemoryFileSystemAccess {
+
+	@Override
+	public void generateFile(String fileName, String outputConfigName, CharSequence contents) {
+		super.generateFile(fileName, outputConfigName, compact(contents));
+	}
+
+	protected CharSequence compact(CharSequence contents) {
+		if (contents instanceof ITraceRegionProvider) {
+			try {
+				AbstractTraceRegion traceRegion = ((ITraceRegionProvider) contents).getTraceRegion();
+				return new TracedString(contents.toString(), CompactTraceRegion.compact(traceRegion));
+			} catch (TraceNotFoundException e) {
+				return contents;
+			}
+		}
+		return contents;
+	}
+
+	/**
+	 * A string with the trace regions it was generated from.
+	 */
+	protected static class TracedString implements CharSequence, ITraceRegionProvider {
+
+		private final String contents;
+
+		private final AbstractTraceRegion traceRegion;
+
+		protected TracedString(String contents, AbstractTraceRegion traceRegion) {
+			this.contents = contents;
+			this.traceRegion = traceRegion;
+		}
+
+		@Override
+		public AbstractTraceRegion getTraceRegion() {
+			return traceRegion;
+		}
+
+		@Override
+		public int length() {
+			return contents.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return contents.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return contents.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return contents;
+		}
+
+	}
+
+}
@@ -7,6 +7,8 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.compiler.output;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -483,7 +485,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 
 	@Override
 	public String getContent() {
-		StringBuilder result = new StringBuilder(8 * 1024);
+		StringBuilder result = new StringBuilder(length());
 		doGetContent(result);
 		return result.toString();
 	}
@@ -513,9 +515,33 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		}
 	}
 
+	/**
+	 * Writes the content of this appendable to the given writer without creating
+	 * an intermediate string for the complete content.
+	 * 
+	 * @since 2.11
+	 */
+	public void writeTo(Writer writer) throws IOException {
+		for (Object child : children) {
+			if (child instanceof String) {
+				writer.write((String) child);
+			} else {
+				((TreeAppendable) child).writeTo(writer);
+			}
+		}
+	}
+
 	@Override
 	public int length() {
-		return toString().length();
+		int result = 0;
+		for (Object child : children) {
+			if (child instanceof String) {
+				result += ((String) child).length();
+			} else {
+				result += ((TreeAppendable) child).length();
+			}
+		}
+		return result;
 	}
 
 	@Override
@@ -10,6 +10,8 @@ package org.eclipse.xtext.xbase.resource;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
 import org.eclipse.xtext.xbase.scoping.batch.IBatchScopeProvider;
 import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver;
 
@@ -57,11 +59,17 @@ public class BatchLinkingService {
 	public EObject resolveBatched(EObject context, EReference reference, String uriFragment, CancelIndicator monitor) {
 		if (reference.isMany())
 			throw new IllegalArgumentException("Not yet implemented for #many references");
-		batchTypeResolver.resolveTypes(context, monitor);
-		EObject result = (EObject) context.eGet(reference, false);
-		if (result.eIsProxy())
-			return null;
-		return result;
+		StoppedTask task = Stopwatches.forTask("BatchLinkingService.resolveBatched");
+		try {
+			task.start();
+			batchTypeResolver.resolveTypes(context, monitor);
+			EObject result = (EObject) context.eGet(reference, false);
+			if (result.eIsProxy())
+				return null;
+			return result;
+		} finally {
+			task.stop();
+		}
 	}
 
 	/**
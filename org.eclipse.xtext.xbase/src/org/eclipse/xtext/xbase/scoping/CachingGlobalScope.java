@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.scoping;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.scoping.IScope;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Remembers the elements of the global scope of a resource by their name. The import scopes of each context
+ * ask the global scope for the names that are derived from the imports, the implicit imports and the package
+ * of a type. The cache allows to answer these questions for existing elements with a single lookup in the
+ * {@link org.eclipse.xtext.common.types.access.IJvmTypeProvider type provider} or the index per resource.
+ *
+ * Instances are held in the {@link org.eclipse.xtext.util.IResourceScopeCache} and are thereby discarded
+ * as soon as the resource is changed. Cached elements that were unloaded in the meantime are looked up again.
+ * Names that could not be found are not remembered, since the element may be added to the index or another
+ * resource without changing this resource.
+ *
+ * @since 2.11
+ */
+public class CachingGlobalScope implements IScope {
+
+	private final IScope delegate;
+
+	private final ConcurrentMap<QualifiedName, IEObjectDescription> singleElements = new ConcurrentHashMap<QualifiedName, IEObjectDescription>();
+
+	private final ConcurrentMap<QualifiedName, List<IEObjectDescription>> elements = new ConcurrentHashMap<QualifiedName, List<IEObjectDescription>>();
+
+	public CachingGlobalScope(IScope delegate) {
+		this.delegate = delegate;
+	}
+
+	public IScope getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	/* @Nullable */
+	public IEObjectDescription getSingleElement(QualifiedName name) {
+		IEObjectDescription result = singleElements.get(name);
+		if (result == null || !isValid(result)) {
+			result = delegate.getSingleElement(name);
+			if (result != null) {
+				singleElements.put(name, result);
+			} else {
+				singleElements.remove(name);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getElements(QualifiedName name) {
+		List<IEObjectDescription> result = elements.get(name);
+		if (result == null || !isValid(result)) {
+			result = ImmutableList.copyOf(delegate.getElements(name));
+			if (!result.isEmpty()) {
+				elements.put(name, result);
+			} else {
+				elements.remove(name);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	/* @Nullable */
+	public IEObjectDescription getSingleElement(EObject object) {
+		return delegate.getSingleElement(object);
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getElements(EObject object) {
+		return delegate.getElements(object);
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getAllElements() {
+		return delegate.getAllElements();
+	}
+
+	protected boolean isValid(List<IEObjectDescription> descriptions) {
+		for(int i = 0, size = descriptions.size(); i < size; i++) {
+			if (!isValid(descriptions.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A description is no longer valid if its resolved element was removed from its resource.
+	 */
+	protected boolean isValid(IEObjectDescription description) {
+		EObject object = description.getEObjectOrProxy();
+		return object.eIsProxy() || object.eResource() != null;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " -> " + delegate;
+	}
+
+}
@@ -83,8 +83,24 @@ public class XImportSectionNamespaceScopeProvider extends AbstractGlobalScopeDel
 		return internalGetScope(globalScope, globalScope, context, reference);
 	}
 	
+	/**
+	 * The global scope is cached per resource since the import scopes of all contexts
+	 * ask it for the same names.
+	 */
 	@Override
 	protected IScope getGlobalScope(final Resource context, final EReference reference) {
+		return cache.get(getKey(context, reference), context, new Provider<IScope>() {
+			@Override
+			public IScope get() {
+				return new CachingGlobalScope(internalGetGlobalScope(context, reference));
+			}
+		});
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	protected IScope internalGetGlobalScope(Resource context, EReference reference) {
 		IScope globalScope = super.getGlobalScope(context, reference, null);
 		return SelectableBasedScope.createScope(globalScope, getAllDescriptions(context), reference.getEReferenceType(), isIgnoreCase(reference));
 	}
@@ -106,26 +106,10 @@ public abstract class AbstractStaticImportsScope extends AbstractSessionBasedExe
 			@Override
 			public void accept(String simpleName, int order) {
 				for (TypeBucket bucket : buckets) {
-					if (bucket.isRestrictingNames()) {
-						for (Map.Entry<? extends JvmType, ? extends Set<String>> entry : bucket.getTypesToNames().entrySet()) {
-							if (entry.getValue().contains(simpleName)) {
-								processType(entry.getKey(), simpleName, order, bucket);
-							}
-						}
-					} else {
-						for (JvmType type : bucket.getTypes()) {
-							processType(type, simpleName, order, bucket);
-						}
-					}
-				}
-			}
-
-			protected void processType(JvmType type, String simpleName, int order, TypeBucket bucket) {
-				if (type instanceof JvmDeclaredType) {
-					List<JvmFeature> features = findAllFeaturesByName(type, simpleName, bucket.getResolvedFeaturesProvider());
+					List<JvmFeature> features = bucket.getStaticFeatureIndex().getStaticFeatures(simpleName);
 					for(int i = 0, size = features.size(); i < size; i++) {
 						JvmFeature feature = features.get(i);
-						if (feature.isStatic() && (order == 1 || feature instanceof JvmOperation)) {
+						if (order == 1 || feature instanceof JvmOperation) {
 							IIdentifiableElementDescription description = createDescription(name, feature, bucket);
 							if (description != null)
 								addToList(description, result);
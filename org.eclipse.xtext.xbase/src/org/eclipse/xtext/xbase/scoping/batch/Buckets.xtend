@@ -32,6 +32,7 @@ class TypeBucket {
 	int id
 	List<? extends JvmType> types
 	IResolvedFeatures.Provider resolvedFeaturesProvider
+	transient StaticFeatureIndex staticFeatureIndex
 	def getFlags() {
 		return ConformanceFlags.CHECKED_SUCCESS
 	}
@@ -41,6 +42,30 @@ class TypeBucket {
 	def boolean isRestrictingNames() {
 		return false;
 	}
+	/**
+	 * The static features of the types in this bucket by their simple name.
+	 * The index is built on first access.
+	 * 
+	 * @since 2.11
+	 */
+	def StaticFeatureIndex getStaticFeatureIndex() {
+		if (staticFeatureIndex === null) {
+			staticFeatureIndex = createStaticFeatureIndex
+		}
+		return staticFeatureIndex
+	}
+	/**
+	 * @since 2.11
+	 */
+	protected def StaticFeatureIndex createStaticFeatureIndex() {
+		val types = getTypes
+		if (types instanceof StaticFeatureIndex) {
+			if (types.isIndexedBy(resolvedFeaturesProvider)) {
+				return types
+			}
+		}
+		return new StaticFeatureIndex(types, resolvedFeaturesProvider)
+	}
 }
 
 /**
@@ -62,6 +87,9 @@ class TypeWithRestrictedNamesBucket extends TypeBucket {
 	override getTypes() {
 		return new ArrayList(typesToNames.keySet)
 	}
+	override protected createStaticFeatureIndex() {
+		return new StaticFeatureIndex(typesToNames, resolvedFeaturesProvider)
+	}
 }
 
 /**
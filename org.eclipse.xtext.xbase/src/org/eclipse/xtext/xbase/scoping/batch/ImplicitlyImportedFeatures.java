@@ -8,10 +8,15 @@
 package org.eclipse.xtext.xbase.scoping.batch;
 
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.util.TypeReferences;
+import org.eclipse.xtext.resource.ISynchronizable;
 import org.eclipse.xtext.xbase.lib.ArrayExtensions;
 import org.eclipse.xtext.xbase.lib.ArrayLiterals;
 import org.eclipse.xtext.xbase.lib.BigDecimalExtensions;
@@ -36,8 +41,10 @@ import org.eclipse.xtext.xbase.lib.ObjectExtensions;
 import org.eclipse.xtext.xbase.lib.ProcedureExtensions;
 import org.eclipse.xtext.xbase.lib.ShortExtensions;
 import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.inject.ImplementedBy;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -59,6 +66,9 @@ public class ImplicitlyImportedFeatures {
 	@Inject
 	private TypeReferences typeReferences;
 	
+	@Inject
+	private IResolvedFeatures.Provider resolvedFeaturesProvider;
+	
 	/**
 	 * @return all JvmType containing static methods which are implicitly imported
 	 */
@@ -75,6 +85,22 @@ public class ImplicitlyImportedFeatures {
 		return getTypes(classes, context);
 	}
 	
+	/**
+	 * Returns the same types as {@link #getExtensionClasses(Resource)} along with an index of
+	 * their static features. The index is built once per resource set and shared by
+	 * all of its resources.
+	 * 
+	 * @since 2.11
+	 */
+	public List<JvmType> getIndexedExtensionClasses(Resource context) {
+		List<JvmType> types = getExtensionClasses(context);
+		ResourceSet resourceSet = context.getResourceSet();
+		if (resourceSet == null || types.isEmpty()) {
+			return types;
+		}
+		return StaticFeatureIndexCache.findOrCreate(resourceSet).getIndex(this, types, resolvedFeaturesProvider);
+	}
+	
 	protected List<JvmType> getTypes(List<Class<?>> classes, Resource context) {
 		List<JvmType> result = Lists.newArrayListWithCapacity(classes.size());
 		for(Class<?> clazz: classes) {
@@ -123,4 +149,52 @@ public class ImplicitlyImportedFeatures {
 			StringExtensions.class);
 	}
 
+	/**
+	 * Holds the {@link StaticFeatureIndex} of the implicitly imported extensions in a resource set.
+	 * An index is rebuilt if the types were reloaded in the meantime.
+	 * 
+	 * @since 2.11
+	 */
+	protected static class StaticFeatureIndexCache extends AdapterImpl {
+		
+		/**
+		 * Returns the cache of the given resource set. An existing cache is returned without locking. A new cache
+		 * is attached while the lock of the resource set is held, since scopes may be computed from several threads.
+		 */
+		public static StaticFeatureIndexCache findOrCreate(ResourceSet resourceSet) {
+			StaticFeatureIndexCache existing = (StaticFeatureIndexCache) EcoreUtil.getAdapter(resourceSet.eAdapters(), StaticFeatureIndexCache.class);
+			if (existing != null) {
+				return existing;
+			}
+			Object lock = resourceSet instanceof ISynchronizable<?> ? ((ISynchronizable<?>) resourceSet).getLock() : resourceSet;
+			synchronized (lock) {
+				StaticFeatureIndexCache result = (StaticFeatureIndexCache) EcoreUtil.getAdapter(resourceSet.eAdapters(), StaticFeatureIndexCache.class);
+				if (result == null) {
+					result = new StaticFeatureIndexCache();
+					resourceSet.eAdapters().add(result);
+				}
+				return result;
+			}
+		}
+		
+		/**
+		 * There is one entry per language that uses the resource set.
+		 */
+		private final Map<ImplicitlyImportedFeatures, StaticFeatureIndex> indexes = Maps.newHashMapWithExpectedSize(2);
+		
+		public synchronized StaticFeatureIndex getIndex(ImplicitlyImportedFeatures features, List<JvmType> types, IResolvedFeatures.Provider resolvedFeaturesProvider) {
+			StaticFeatureIndex result = indexes.get(features);
+			if (result == null || !result.isIndexedBy(resolvedFeaturesProvider) || !result.equals(types)) {
+				result = new StaticFeatureIndex(types, resolvedFeaturesProvider);
+				indexes.put(features, result);
+			}
+			return result;
+		}
+		
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return StaticFeatureIndexCache.class == type;
+		}
+	}
+
 }
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.scoping.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmFeature;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
+
+import com.google.common.collect.ForwardingList;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Lists;
+
+/**
+ * An immutable list of types that knows the static features of these types by their simple name.
+ * The features of a name are ordered like the types in the list, thus a lookup in the index yields
+ * the same features as a lookup in each of the types.
+ *
+ * A {@link TypeBucket} builds its index lazily, which allows the {@link AbstractStaticImportsScope static scopes}
+ * to answer a query with a single hash lookup instead of looking into each of the types. Buckets
+ * reuse an index that is passed as their list of types, see
+ * {@link ImplicitlyImportedFeatures#getIndexedExtensionClasses(org.eclipse.emf.ecore.resource.Resource)}.
+ *
+ * @since 2.11
+ */
+public class StaticFeatureIndex extends ForwardingList<JvmType> {
+
+	private final List<JvmType> types;
+
+	private final IResolvedFeatures.Provider resolvedFeaturesProvider;
+
+	private final ImmutableListMultimap<String, JvmFeature> staticFeatures;
+
+	public StaticFeatureIndex(List<? extends JvmType> types, IResolvedFeatures.Provider resolvedFeaturesProvider) {
+		this(types, null, resolvedFeaturesProvider);
+	}
+
+	/**
+	 * Creates an index that contains only the features with the names that are exported by a type.
+	 */
+	public StaticFeatureIndex(Map<? extends JvmType, ? extends Set<String>> typesToNames, IResolvedFeatures.Provider resolvedFeaturesProvider) {
+		this(Lists.newArrayList(typesToNames.keySet()), typesToNames, resolvedFeaturesProvider);
+	}
+
+	private StaticFeatureIndex(List<? extends JvmType> types, /* @Nullable */ Map<? extends JvmType, ? extends Set<String>> typesToNames,
+			IResolvedFeatures.Provider resolvedFeaturesProvider) {
+		this.types = ImmutableList.<JvmType>copyOf(types);
+		this.resolvedFeaturesProvider = resolvedFeaturesProvider;
+		ImmutableListMultimap.Builder<String, JvmFeature> builder = ImmutableListMultimap.builder();
+		for(JvmType type: types) {
+			if (type instanceof JvmDeclaredType) {
+				Set<String> names = typesToNames != null ? typesToNames.get(type) : null;
+				List<JvmFeature> features = resolvedFeaturesProvider.getResolvedFeatures(type).getAllFeatures();
+				for(int i = 0, size = features.size(); i < size; i++) {
+					JvmFeature feature = features.get(i);
+					if (feature.isStatic() && (names == null || names.contains(feature.getSimpleName()))) {
+						builder.put(feature.getSimpleName(), feature);
+					}
+				}
+			}
+		}
+		this.staticFeatures = builder.build();
+	}
+
+	@Override
+	protected List<JvmType> delegate() {
+		return types;
+	}
+
+	/**
+	 * Returns <code>true</code> if the index was built with the given kind of provider.
+	 * Providers are not singletons, thus they are compared by their class.
+	 * Buckets with another provider have to look into the types.
+	 */
+	public boolean isIndexedBy(IResolvedFeatures.Provider resolvedFeaturesProvider) {
+		return this.resolvedFeaturesProvider.getClass() == resolvedFeaturesProvider.getClass();
+	}
+
+	/**
+	 * Returns the static features of all types with the given simple name.
+	 */
+	public List<JvmFeature> getStaticFeatures(String simpleName) {
+		return staticFeatures.get(simpleName);
+	}
+
+}
@@ -19,6 +19,8 @@ import org.eclipse.xtext.scoping.IScope;
 import org.eclipse.xtext.scoping.IScopeProvider;
 import org.eclipse.xtext.scoping.impl.AbstractDeclarativeScopeProvider;
 import org.eclipse.xtext.scoping.impl.IDelegatingScopeProvider;
+import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
 import org.eclipse.xtext.xbase.XAbstractFeatureCall;
 import org.eclipse.xtext.xbase.XBinaryOperation;
 import org.eclipse.xtext.xbase.XExpression;
@@ -74,6 +76,19 @@ public class XbaseBatchScopeProvider implements IBatchScopeProvider , IDelegatin
 	
 	@Override
 	public IScope getScope(EObject context, EReference reference) {
+		StoppedTask task = Stopwatches.forTask("XbaseBatchScopeProvider.getScope");
+		try {
+			task.start();
+			return doGetScope(context, reference);
+		} finally {
+			task.stop();
+		}
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	protected IScope doGetScope(EObject context, EReference reference) {
 		if (context == null || context.eResource() == null || context.eResource().getResourceSet() == null) {
 			return IScope.NULLSCOPE;
 		}
@@ -110,7 +125,7 @@ public class XbaseBatchScopeProvider implements IBatchScopeProvider , IDelegatin
 	@Override
 	public IFeatureScopeSession newSession(Resource context) {
 		List<JvmType> literalClasses = implicitlyImportedFeatures.getStaticImportClasses(context);
-		List<JvmType> extensionClasses = implicitlyImportedFeatures.getExtensionClasses(context);
+		List<JvmType> extensionClasses = implicitlyImportedFeatures.getIndexedExtensionClasses(context);
 		IFeatureScopeSession result = rootSession.addTypesToStaticScope(literalClasses, extensionClasses);
 		if (context.getContents().isEmpty() || !(context instanceof XtextResource))
 			return result;
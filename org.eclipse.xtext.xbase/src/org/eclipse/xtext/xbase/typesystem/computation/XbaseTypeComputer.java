@@ -60,6 +60,7 @@ import org.eclipse.xtext.xbase.XWhileExpression;
 import org.eclipse.xtext.xbase.XbasePackage;
 import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceFlags;
 import org.eclipse.xtext.xbase.typesystem.conformance.TypeConformanceComputationArgument;
+import org.eclipse.xtext.xbase.typesystem.internal.AbstractPendingLinkingCandidate;
 import org.eclipse.xtext.xbase.typesystem.references.AnyTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.ArrayTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.CompoundTypeReference;
@@ -1037,13 +1038,56 @@ public class XbaseTypeComputer extends AbstractTypeComputer implements ITypeComp
 	}
 	
 	protected ILinkingCandidate getBestCandidate(List<? extends ILinkingCandidate> candidates) {
-		ILinkingCandidate result = candidates.get(0);
-		for(int i = 1; i < candidates.size(); i++) {
-			ILinkingCandidate candidate = candidates.get(i);
+		List<? extends ILinkingCandidate> preselected = preselectCandidates(candidates);
+		ILinkingCandidate result = preselected.get(0);
+		for(int i = 1; i < preselected.size(); i++) {
+			ILinkingCandidate candidate = preselected.get(i);
 			result = result.getPreferredCandidate(candidate);
 		}
 		return result;
 	}
+	
+	/**
+	 * Drops the candidates that cannot win due to their arity. Pending candidates are compared by their
+	 * arity first, and a candidate that accepts the given number of arguments is always preferred over one
+	 * that does not. Therefore the preferred candidate is the same, but the argument types of the
+	 * dropped candidates are never computed, e.g. if two of them are compared with each other.
+	 * 
+	 * @since 2.11
+	 */
+	protected List<? extends ILinkingCandidate> preselectCandidates(List<? extends ILinkingCandidate> candidates) {
+		int size = candidates.size();
+		if (size <= 2) {
+			return candidates;
+		}
+		boolean[] matchingArity = new boolean[size];
+		int matching = 0;
+		for(int i = 0; i < size; i++) {
+			ILinkingCandidate candidate = candidates.get(i);
+			if (!(candidate instanceof AbstractPendingLinkingCandidate<?>)) {
+				return candidates;
+			}
+			AbstractPendingLinkingCandidate<?> pending = (AbstractPendingLinkingCandidate<?>) candidate;
+			// assignments are compared by the name of the feature before the arity is taken into account
+			if (pending.getExpression() instanceof XAssignment) {
+				return candidates;
+			}
+			if (pending.getArityMismatch() == 0) {
+				matchingArity[i] = true;
+				matching++;
+			}
+		}
+		if (matching == 0 || matching == size) {
+			return candidates;
+		}
+		List<ILinkingCandidate> result = Lists.newArrayListWithCapacity(matching);
+		for(int i = 0; i < size; i++) {
+			if (matchingArity[i]) {
+				result.add(candidates.get(i));
+			}
+		}
+		return result;
+	}
 
 	/* @Nullable */
 	protected JvmIdentifiableElement getRefinableCandidate(XExpression object, ITypeComputationState state) {
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.typesystem.conformance;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
+
+/**
+ * Remembers the conformance of references to non-generic or raw types, e.g. {@link String}
+ * and {@link CharSequence}. The result of such a check only depends on the types
+ * and the flags, thus it can be reused as long as the types do not change.
+ *
+ * Owners expose a cache via {@link StandardTypeReferenceOwner#getConformanceResultCache()}.
+ * The type resolver shares one instance across a single resolution run.
+ *
+ * @since 2.11
+ */
+public class ConformanceResultCache {
+
+	private static class Key {
+		private final RawTypeConformanceComputer computer;
+		private final JvmType left;
+		private final JvmType right;
+		private final int flags;
+		private final int hashCode;
+
+		Key(RawTypeConformanceComputer computer, JvmType left, JvmType right, int flags) {
+			this.computer = computer;
+			this.left = left;
+			this.right = right;
+			this.flags = flags;
+			this.hashCode = 31 * (31 * (31 * System.identityHashCode(computer) + System.identityHashCode(left))
+					+ System.identityHashCode(right)) + flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return computer == other.computer && left == other.left && right == other.right && flags == other.flags;
+		}
+	}
+
+	/**
+	 * The cache is used by the clients of the resolved types, too. These may access it concurrently.
+	 */
+	private final Map<Key, Integer> results = new ConcurrentHashMap<Key, Integer>();
+
+	/* @Nullable */
+	Integer get(RawTypeConformanceComputer computer, JvmType left, JvmType right, int flags) {
+		return results.get(new Key(computer, left, right, flags));
+	}
+
+	void put(RawTypeConformanceComputer computer, JvmType left, JvmType right, int flags, int result) {
+		results.put(new Key(computer, left, right, flags), result);
+	}
+
+}
@@ -29,12 +29,14 @@ import org.eclipse.xtext.xbase.typesystem.computation.SynonymTypesProvider;
 import org.eclipse.xtext.xbase.typesystem.internal.util.WrapperTypeLookup;
 import org.eclipse.xtext.xbase.typesystem.references.ArrayTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.FunctionTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
 import org.eclipse.xtext.xbase.typesystem.references.InnerFunctionTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.InnerTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightBoundTypeArgument;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightMergedBoundTypeArgument;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.ParameterizedTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
 import org.eclipse.xtext.xbase.typesystem.references.UnboundTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.WildcardTypeReference;
 import org.eclipse.xtext.xbase.typesystem.util.BoundTypeArgumentMerger;
@@ -834,6 +836,54 @@ public class RawTypeConformanceComputer {
 			}
 			return doIsConformantTypeArguments(left, right, flags);
 		}
+		ConformanceResultCache cache = getConformanceResultCache(left, right);
+		if (cache != null) {
+			Integer cached = cache.get(this, left.getType(), right.getType(), flags);
+			if (cached != null) {
+				return cached;
+			}
+			int result = doIsConformantDifferentTypes(left, right, flags);
+			cache.put(this, left.getType(), right.getType(), flags, result);
+			return result;
+		}
+		return doIsConformantDifferentTypes(left, right, flags);
+	}
+	
+	/**
+	 * Returns the cache for the conformance of the given references, or <code>null</code> if the
+	 * owner does not provide one or the result may depend on more than the raw types and the flags.
+	 * That is, only plain references without type arguments to types other than type parameters
+	 * are cached.
+	 * 
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected ConformanceResultCache getConformanceResultCache(ParameterizedTypeReference left, ParameterizedTypeReference right) {
+		if (left.getKind() != KIND_PARAMETERIZED_TYPE_REFERENCE || right.getKind() != KIND_PARAMETERIZED_TYPE_REFERENCE) {
+			return null;
+		}
+		ITypeReferenceOwner owner = left.getOwner();
+		if (!(owner instanceof StandardTypeReferenceOwner)) {
+			return null;
+		}
+		ConformanceResultCache result = ((StandardTypeReferenceOwner) owner).getConformanceResultCache();
+		if (result == null || left.hasTypeArguments() || right.hasTypeArguments() 
+				|| !isCacheable(left.getType()) || !isCacheable(right.getType())) {
+			return null;
+		}
+		return result;
+	}
+	
+	private boolean isCacheable(JvmType type) {
+		return type.eClass() != TypesPackage.Literals.JVM_TYPE_PARAMETER && !type.eIsProxy();
+	}
+	
+	/**
+	 * Checks the conformance of references to different types.
+	 * 
+	 * @since 2.11
+	 */
+	protected int doIsConformantDifferentTypes(ParameterizedTypeReference left, ParameterizedTypeReference right, int flags) {
 		if (left.isPrimitiveVoid() || right.isPrimitiveVoid()) {
 			return flags;
 		}
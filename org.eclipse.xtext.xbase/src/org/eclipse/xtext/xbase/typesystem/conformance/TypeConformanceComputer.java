@@ -22,12 +22,14 @@ import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
 import org.eclipse.xtext.common.types.JvmTypeParameterDeclarator;
 import org.eclipse.xtext.common.types.TypesPackage;
+import org.eclipse.xtext.xbase.typesystem.internal.TypeResolutionProfiler;
 import org.eclipse.xtext.xbase.typesystem.references.ArrayTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.CompoundTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.FunctionTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.ParameterizedTypeReference;
+import org.eclipse.xtext.xbase.typesystem.references.StandardTypeReferenceOwner;
 import org.eclipse.xtext.xbase.typesystem.references.UnboundTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.WildcardTypeReference;
 
@@ -88,6 +90,12 @@ public class TypeConformanceComputer extends RawTypeConformanceComputer {
 	public int isConformant(LightweightTypeReference left, LightweightTypeReference right, int flags) {
 		if (left == right && left != null) // TODO handle null
 			return flags | SUCCESS;
+		if (TypeResolutionProfiler.isRecording()) {
+			ITypeReferenceOwner owner = left.getOwner();
+			if (owner instanceof StandardTypeReferenceOwner) {
+				((StandardTypeReferenceOwner) owner).conformanceChecked();
+			}
+		}
 		if ((flags & RAW_TYPE) != 0 || ((left.isRawType() || right.isRawType()) && (flags & ALLOW_RAW_TYPE_CONVERSION) != 0)) {
 			int result = rawTypeConformanceComputer.isConformant(left, right, flags);
 			if ((result & SUCCESS) != 0) {
@@ -29,6 +29,15 @@ public abstract class AbstractRootTypeComputationState extends AbstractTypeCompu
 		XExpression rootExpression = getRootExpression();
 		if (rootExpression == null)
 			return createNoTypeResult();
+		TypeResolutionProfiler.Recording recording = resolvedTypes.shared.recording;
+		if (recording != null) {
+			TypeResolutionProfiler.Frame frame = recording.enterRootExpression(rootExpression);
+			try {
+				return computeTypes(rootExpression);
+			} finally {
+				recording.exitRootExpression(frame);
+			}
+		}
 		return computeTypes(rootExpression);
 	}
 	
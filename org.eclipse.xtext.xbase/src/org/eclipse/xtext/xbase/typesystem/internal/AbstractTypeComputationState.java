@@ -415,6 +415,9 @@ public abstract class AbstractTypeComputationState implements ITypeComputationSt
 		if (resultList.isEmpty()) {
 			resultList.add(new NullFeatureLinkingCandidate(featureCall, this));
 		}
+		if (resolvedTypes.shared.recording != null) {
+			resolvedTypes.shared.recording.linkingCandidatesConsidered(featureCall, resultList.size());
+		}
 		return resultList;
 	}
 	
@@ -540,6 +543,9 @@ public abstract class AbstractTypeComputationState implements ITypeComputationSt
 		if (resultList.isEmpty()) {
 			resultList.add(new NullConstructorLinkingCandidate(constructorCall, this));
 		}
+		if (resolvedTypes.shared.recording != null) {
+			resolvedTypes.shared.recording.linkingCandidatesConsidered(constructorCall, resultList.size());
+		}
 		return resultList;
 	}
 
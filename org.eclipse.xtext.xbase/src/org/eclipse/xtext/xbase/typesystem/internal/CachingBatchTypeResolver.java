@@ -13,6 +13,8 @@ import org.eclipse.xtext.resource.ISynchronizable;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.OnChangeEvictingCache;
 import org.eclipse.xtext.util.concurrent.IUnitOfWork;
+import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
 import org.eclipse.xtext.xbase.XAbstractFeatureCall;
 import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
 
@@ -43,21 +45,27 @@ public class CachingBatchTypeResolver extends AbstractBatchTypeResolver {
 		}
 		// TODO
 		final Resource resource = nonArtificialObject.eResource();
-		final LazyResolvedTypes result = cache.get(CachingBatchTypeResolver.class, resource, new Provider<LazyResolvedTypes>() {
-			@Override
-			public LazyResolvedTypes get() {
-				final IReentrantTypeResolver resolver = delegate.getTypeResolver(object);
-				return new LazyResolvedTypes(resolver, resource);
-			}
-		});
-		cache.execWithoutCacheClear(resource, new IUnitOfWork.Void<Resource>() {
-			@Override
-			public void process(Resource state) throws Exception {
-				// trigger the actual resolution after the thing was cached
-				result.resolveTypes(monitor == null ? CancelIndicator.NullImpl : monitor); 
-			}
-		});
-		return result;
+		StoppedTask task = Stopwatches.forTask("CachingBatchTypeResolver.resolveTypes");
+		try {
+			task.start();
+			final LazyResolvedTypes result = cache.get(CachingBatchTypeResolver.class, resource, new Provider<LazyResolvedTypes>() {
+				@Override
+				public LazyResolvedTypes get() {
+					final IReentrantTypeResolver resolver = delegate.getTypeResolver(object);
+					return new LazyResolvedTypes(resolver, resource);
+				}
+			});
+			cache.execWithoutCacheClear(resource, new IUnitOfWork.Void<Resource>() {
+				@Override
+				public void process(Resource state) throws Exception {
+					// trigger the actual resolution after the thing was cached
+					result.resolveTypes(monitor == null ? CancelIndicator.NullImpl : monitor); 
+				}
+			});
+			return result;
+		} finally {
+			task.stop();
+		}
 	}
 	
 	protected static class LazyResolvedTypes extends ForwardingResolvedTypes {
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.typesystem.internal;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.xbase.scoping.batch.IFeatureScopeSession;
+import org.eclipse.xtext.xbase.typesystem.IExpressionScope;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
+
+/**
+ * A {@link FeatureScopeTracker} for long living resources, e.g. the open documents of a language server.
+ *
+ * The default tracker retains the intermediate state of the type resolution for each recorded scope,
+ * including the state of linking candidates that were discarded. This tracker only records the
+ * session and the reassigned types of a context. All other types are taken from the final result
+ * of the resolution when a scope is requested. The number of contexts is capped, contexts that are
+ * encountered after the limit was reached do not provide an {@link IExpressionScope}.
+ *
+ * @see CompactFeatureScopeTrackerProvider
+ * @since 2.11
+ */
+public class CompactFeatureScopeTracker extends FeatureScopeTracker {
+
+	private final int maximumContexts;
+
+	protected CompactFeatureScopeTracker(int maximumContexts) {
+		this.maximumContexts = maximumContexts;
+	}
+
+	public int getMaximumContexts() {
+		return maximumContexts;
+	}
+
+	@Override
+	public void addExpressionScope(ResolvedTypes current, EObject context, IFeatureScopeSession session, IExpressionScope.Anchor anchor) {
+		if (getRecordedContexts() >= maximumContexts && !isRecorded(context)) {
+			return;
+		}
+		super.addExpressionScope(current, context, session, anchor);
+	}
+
+	@Override
+	public void replacePreviousExpressionScope(EObject context, IFeatureScopeSession session, IExpressionScope.Anchor anchor) {
+		if (!hasExpressionScope(context, anchor)) {
+			// the context was not recorded since the limit was reached
+			return;
+		}
+		super.replacePreviousExpressionScope(context, session, anchor);
+	}
+
+	@Override
+	protected IResolvedTypes getTypesToRecord(ResolvedTypes current) {
+		return current.withFlattenedReassignedTypes(getRoot(current));
+	}
+
+	@Override
+	protected ITypeReferenceOwner getReferenceOwner(ResolvedTypes current) {
+		return getRoot(current).getReferenceOwner();
+	}
+
+	protected ResolvedTypes getRoot(ResolvedTypes current) {
+		ResolvedTypes result = current;
+		while (result instanceof StackedResolvedTypes) {
+			result = ((StackedResolvedTypes) result).getParent();
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.typesystem.internal;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * A provider for {@link CompactFeatureScopeTracker compact feature scope trackers}. It tracks
+ * the same resources as the {@link OptimizingFeatureScopeTrackerProvider} but limits the
+ * memory that is retained per resource. Language servers may bind this provider since they
+ * keep the resolved types of all open documents.
+ *
+ * @since 2.11
+ */
+public class CompactFeatureScopeTrackerProvider extends OptimizingFeatureScopeTrackerProvider {
+
+	@Override
+	protected IFeatureScopeTracker createTracker(EObject root) {
+		return new CompactFeatureScopeTracker(getMaximumContexts());
+	}
+
+	/**
+	 * The maximum number of contexts for which the scopes are recorded per resolution run.
+	 */
+	protected int getMaximumContexts() {
+		return 20000;
+	}
+
+}
@@ -76,6 +76,9 @@ public class DefaultReentrantTypeResolver extends AbstractRootedReentrantTypeRes
 	@Inject
 	private IFeatureScopeTracker.Provider featureScopeTrackerProvider;
 	
+	@Inject
+	private TypeResolutionProfiler profiler;
+	
 	private EObject root;
 	
 	private boolean resolving = false;
@@ -159,12 +162,18 @@ public class DefaultReentrantTypeResolver extends AbstractRootedReentrantTypeRes
 			return IResolvedTypes.NULL;
 		}
 		RootResolvedTypes result = createResolvedTypes(monitor);
-		IFeatureScopeSession session = batchScopeProvider.newSession(root.eResource());
-		computeTypes(result, session);
-		result.resolveUnboundTypeParameters();
-		result.resolveProxies();
-		result.addDiagnostics(root.eResource());
-		result.processDeferredLogic();
+		try {
+			IFeatureScopeSession session = batchScopeProvider.newSession(root.eResource());
+			computeTypes(result, session);
+			result.resolveUnboundTypeParameters();
+			result.resolveProxies();
+			result.addDiagnostics(root.eResource());
+			result.processDeferredLogic();
+		} finally {
+			if (result.shared.recording != null) {
+				profiler.finished(result.shared.recording);
+			}
+		}
 		return result;
 	}
 
@@ -180,6 +189,20 @@ public class DefaultReentrantTypeResolver extends AbstractRootedReentrantTypeRes
 		return featureScopeTrackerProvider.track(root);
 	}
 
+	/**
+	 * Returns a new recording for the current resolution run if the {@link TypeResolutionProfiler profiler}
+	 * is enabled, <code>null</code> otherwise.
+	 *
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected TypeResolutionProfiler.Recording startRecording() {
+		if (profiler.isEnabled()) {
+			return profiler.startRecording(root);
+		}
+		return null;
+	}
+
 	protected void computeTypes(ResolvedTypes resolvedTypes, IFeatureScopeSession session) {
 		computeTypes(resolvedTypes, session, root);
 	}
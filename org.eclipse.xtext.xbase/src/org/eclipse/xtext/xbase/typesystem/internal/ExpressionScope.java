@@ -53,7 +53,7 @@ public class ExpressionScope implements IExpressionScope {
 	private final List<FeatureScopeSessionToResolvedTypes> data;
 	private final Anchor anchor;
 
-	private EnumMap<Anchor, IScope> cachedFeatureScope = Maps.newEnumMap(Anchor.class);
+	private EnumMap<Anchor, IScope> cachedFeatureScope;
 	private IScope cachedReceiverFeatureScope;
 	private XAbstractFeatureCall requestedFeatureCall;
 	private ITypeReferenceOwner owner;
@@ -99,6 +99,9 @@ public class ExpressionScope implements IExpressionScope {
 
 	/* @NonNull */
 	protected IScope getFeatureScope(Anchor anchor) {
+		if (cachedFeatureScope == null) {
+			cachedFeatureScope = Maps.newEnumMap(Anchor.class);
+		}
 		IScope cached = cachedFeatureScope.get(anchor);
 		if (cached != null)
 			return cached;
@@ -202,7 +205,7 @@ public class ExpressionScope implements IExpressionScope {
 	}
 	
 	public void addData(IFeatureScopeSession session, IResolvedTypes types) {
-		this.cachedFeatureScope.clear();
+		this.cachedFeatureScope = null;
 		this.cachedReceiverFeatureScope = null;
 		this.requestedFeatureCall = null;
 		this.data.add(new FeatureScopeSessionToResolvedTypes(session, types));
@@ -14,6 +14,8 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.xbase.scoping.batch.IFeatureScopeSession;
 import org.eclipse.xtext.xbase.typesystem.IExpressionScope;
 import org.eclipse.xtext.xbase.typesystem.IExpressionScope.Anchor;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
 
 import com.google.common.collect.Maps;
 
@@ -63,10 +65,43 @@ public class FeatureScopeTracker implements IFeatureScopeTracker {
 		}
 		ExpressionScope scope = recordedScopes.get(anchor);
 		if (scope == null) {
-			scope = new ExpressionScope(current.getResolver().getFeatureScopes(), context, anchor, current.getReferenceOwner());
+			scope = new ExpressionScope(current.getResolver().getFeatureScopes(), context, anchor, getReferenceOwner(current));
 			recordedScopes.put(anchor, scope);
 		}
-		scope.addData(session, current.withFlattenedReassignedTypes());
+		scope.addData(session, getTypesToRecord(current));
+	}
+	
+	/**
+	 * The types that are recorded along with the session. By default, these are the given
+	 * types, thus the complete state of the resolution at this point is retained.
+	 * 
+	 * @since 2.11
+	 */
+	protected IResolvedTypes getTypesToRecord(ResolvedTypes current) {
+		return current.withFlattenedReassignedTypes();
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	protected ITypeReferenceOwner getReferenceOwner(ResolvedTypes current) {
+		return current.getReferenceOwner();
+	}
+	
+	/**
+	 * The number of contexts with recorded scopes.
+	 * 
+	 * @since 2.11
+	 */
+	protected int getRecordedContexts() {
+		return featureScopeSessions.size();
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	protected boolean isRecorded(EObject context) {
+		return featureScopeSessions.containsKey(context);
 	}
 	
 	@Override
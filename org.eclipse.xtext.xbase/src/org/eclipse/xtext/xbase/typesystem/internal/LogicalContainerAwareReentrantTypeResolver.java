@@ -185,6 +185,9 @@ public class LogicalContainerAwareReentrantTypeResolver extends DefaultReentrant
 		@Override
 		/* @Nullable */
 		protected JvmTypeReference doGetTypeReference(XComputedTypeReferenceImplCustom context) {
+			if (resolvedTypes.shared.recording != null) {
+				resolvedTypes.shared.recording.typeDemanded();
+			}
 			try {
 				if (isHandled(expression)) {
 					return doGetTypeReferenceWithCurrentTypeResolver();
@@ -39,6 +39,15 @@ public class OptimizingFeatureScopeTrackerProvider implements IFeatureScopeTrack
 				}
 			}
 		}
+		return createTracker(root);
+	}
+	
+	/**
+	 * Creates the tracker for a root that should be tracked.
+	 * 
+	 * @since 2.11
+	 */
+	protected IFeatureScopeTracker createTracker(EObject root) {
 		return new FeatureScopeTracker();
 	}
 
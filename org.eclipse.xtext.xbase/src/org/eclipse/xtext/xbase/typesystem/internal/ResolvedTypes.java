@@ -47,7 +47,9 @@ import org.eclipse.xtext.xbase.typesystem.computation.IFeatureLinkingCandidate;
 import org.eclipse.xtext.xbase.typesystem.computation.ILinkingCandidate;
 import org.eclipse.xtext.xbase.typesystem.computation.ITypeExpectation;
 import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceFlags;
+import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceResultCache;
 import org.eclipse.xtext.xbase.typesystem.conformance.TypeConformanceComputationArgument;
+import org.eclipse.xtext.xbase.typesystem.internal.util.CompactIdentityMap;
 import org.eclipse.xtext.xbase.typesystem.references.CompoundTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightBoundTypeArgument;
@@ -74,7 +76,6 @@ import com.google.common.base.Joiner.MapJoiner;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 /**
@@ -98,6 +99,27 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 		}
 	}
 	
+	/**
+	 * Backs the maps of the resolved types instead of the {@link SharedKeysAwareMap}. The keys of the maps are
+	 * expressions and identifiables, thus they are compared by identity.
+	 */
+	private static final class SharedKeysAwareIdentityMap<K, V> extends CompactIdentityMap<K, V> {
+		private final Set<K> sharedKeys;
+
+		SharedKeysAwareIdentityMap(Set<K> sharedKeys) {
+			this.sharedKeys = sharedKeys;
+		}
+		
+		@Override
+		public V put(K key, V value) {
+			V result = super.put(key, value);
+			if (result == null) {
+				sharedKeys.add(key);
+			}
+			return result;
+		}
+	}
+	
 	protected static class SharedKeysAwareSet<E> extends HashSet<E> {
 		private static final long serialVersionUID = 1L;
 		private final Set<E> sharedKeys;
@@ -139,6 +161,18 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 			return ResolvedTypes.this.getDeclaredTypeParameters();
 		}
 		
+		@Override
+		public ConformanceResultCache getConformanceResultCache() {
+			return shared.conformanceResultCache;
+		}
+		
+		@Override
+		public void conformanceChecked() {
+			if (shared.recording != null) {
+				shared.recording.conformanceChecked();
+			}
+		}
+		
 		@Override
 		public String toString() {
 			return String.format("Owner: %s", ResolvedTypes.this);
@@ -158,11 +192,21 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 		final IFeatureScopeTracker featureScopeTracker;
 		final IssueSeverities issueSeverities;
 		
-		final Set<JvmIdentifiableElement> allTypes = Sets.newHashSet();
-		final Set<JvmIdentifiableElement> allReassignedTypes = Sets.newHashSet();
-		final Set<XExpression> allExpressionTypes = Sets.newHashSet();
-		final Set<XExpression> allLinking = Sets.newHashSet();
-		final Set<Object> allResolvedTypeParameters = Sets.newHashSet();
+		final Set<JvmIdentifiableElement> allTypes = Sets.newIdentityHashSet();
+		final Set<JvmIdentifiableElement> allReassignedTypes = Sets.newIdentityHashSet();
+		final Set<XExpression> allExpressionTypes = Sets.newIdentityHashSet();
+		final Set<XExpression> allLinking = Sets.newIdentityHashSet();
+		final Set<Object> allResolvedTypeParameters = Sets.newIdentityHashSet();
+		
+		/**
+		 * Used by the owners of all resolved types of this run, including the clients of the final result.
+		 */
+		final ConformanceResultCache conformanceResultCache;
+		
+		/**
+		 * The statistics of this run, or <code>null</code> if the {@link TypeResolutionProfiler profiler} is disabled.
+		 */
+		final TypeResolutionProfiler.Recording recording;
 		
 		ResolvedTypes root;
 		
@@ -171,6 +215,8 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 			this.monitor = monitor;
 			this.featureScopeTracker = resolver.createFeatureScopeTracker();
 			this.issueSeverities = resolver.getIssueSeverities();
+			this.conformanceResultCache = new ConformanceResultCache();
+			this.recording = resolver.startRecording();
 		}
 		
 	}
@@ -208,6 +254,22 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 		getResolver().getOperationCanceledManager().checkCanceled(getMonitor());
 	}
 	
+	/**
+	 * Grows the existing maps of this instance such that the content of the given child
+	 * can be merged without intermediate resizing.
+	 */
+	void ensureCapacityForMerge(ResolvedTypes child) {
+		ensureCapacityForMerge(expressionTypes, child.expressionTypes);
+		ensureCapacityForMerge(types, child.types);
+		ensureCapacityForMerge(linkingMap, child.linkingMap);
+	}
+	
+	private static void ensureCapacityForMerge(/* @Nullable */ Map<?, ?> map, /* @Nullable */ Map<?, ?> childMap) {
+		if (map instanceof CompactIdentityMap<?, ?> && childMap != null) {
+			((CompactIdentityMap<?, ?>) map).ensureCapacity(map.size() + childMap.size());
+		}
+	}
+	
 	protected void clear() {
 		diagnostics = null;
 		deferredLogic = null;
@@ -845,7 +907,7 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 	
 	private Map<JvmIdentifiableElement, LightweightTypeReference> ensureTypesMapExists() {
 		if (types == null) {
-			types = new SharedKeysAwareMap<JvmIdentifiableElement, LightweightTypeReference>(shared.allTypes);
+			types = new SharedKeysAwareIdentityMap<JvmIdentifiableElement, LightweightTypeReference>(shared.allTypes);
 		}
 		return types;
 	}
@@ -856,7 +918,7 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 
 	private Map<JvmIdentifiableElement, LightweightTypeReference> ensureReassignedTypesMapExists() {
 		if (reassignedTypes == null) {
-			reassignedTypes = new SharedKeysAwareMap<JvmIdentifiableElement, LightweightTypeReference>(shared.allReassignedTypes);
+			reassignedTypes = new SharedKeysAwareIdentityMap<JvmIdentifiableElement, LightweightTypeReference>(shared.allReassignedTypes);
 		}
 		return reassignedTypes;
 	}
@@ -867,7 +929,7 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 	
 	private Map<XExpression, List<TypeData>> ensureExpressionTypesMapExists() {
 		if (expressionTypes == null) {
-			expressionTypes = new SharedKeysAwareMap<XExpression, List<TypeData>>(shared.allExpressionTypes); 
+			expressionTypes = new SharedKeysAwareIdentityMap<XExpression, List<TypeData>>(shared.allExpressionTypes); 
 		}
 		return expressionTypes;
 	}
@@ -889,14 +951,14 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 	
 	private Map<Object, List<LightweightBoundTypeArgument>> ensureTypeParameterHintsMapExists() {
 		if (typeParameterHints == null) {
-			typeParameterHints = Maps.newHashMap();
+			typeParameterHints = new CompactIdentityMap<Object, List<LightweightBoundTypeArgument>>();
 		}
 		return typeParameterHints;
 	}
 
 	private Map<XExpression, IApplicableCandidate> ensureLinkingMapExists() {
 		if (linkingMap == null) {
-			linkingMap = new SharedKeysAwareMap<XExpression, IApplicableCandidate>(shared.allLinking); 
+			linkingMap = new SharedKeysAwareIdentityMap<XExpression, IApplicableCandidate>(shared.allLinking); 
 		}
 		return linkingMap;
 	}
@@ -1086,7 +1148,7 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 	
 	private Map<Object, UnboundTypeReference> ensureTypeParameterMapExists() {
 		if (unboundTypeParameters == null) {
-			unboundTypeParameters = Maps.newLinkedHashMap();
+			unboundTypeParameters = new CompactIdentityMap<Object, UnboundTypeReference>();
 		}
 		return unboundTypeParameters;
 	}
@@ -1508,6 +1570,16 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 	}
 	
 	protected IResolvedTypes withFlattenedReassignedTypes() {
+		return withFlattenedReassignedTypes(this);
+	}
+	
+	/**
+	 * Returns the reassigned types of this instance on top of the given types. The returned
+	 * instance does not refer to this instance, if the given types are different.
+	 * 
+	 * @since 2.11
+	 */
+	protected IResolvedTypes withFlattenedReassignedTypes(final IResolvedTypes types) {
 		final Map<JvmIdentifiableElement, LightweightTypeReference> flattened = getFlattenedReassignedTypes();
 		if (flattened != null)
 			return new ForwardingResolvedTypes() {
@@ -1522,10 +1594,10 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 			
 				@Override
 				protected IResolvedTypes delegate() {
-					return ResolvedTypes.this;
+					return types;
 				}
 			};
-		return this;
+		return types;
 	}
 
 	/* @Nullable */
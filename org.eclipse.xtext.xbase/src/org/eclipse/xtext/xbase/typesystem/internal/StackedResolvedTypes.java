@@ -76,6 +76,7 @@ public class StackedResolvedTypes extends ResolvedTypes {
 	}
 	
 	protected void mergeInto(ResolvedTypes parent) {
+		parent.ensureCapacityForMerge(this);
 		mergeTypeParametersIntoParent(parent);
 		mergeExpressionTypesIntoParent(parent);
 		mergeTypesIntoParent(parent);
@@ -0,0 +1,358 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.typesystem.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.xbase.XExpression;
+
+import com.google.common.collect.Maps;
+import com.google.inject.Singleton;
+
+/**
+ * Records where the time of a type resolution run is spent. For each root expression, e.g. the body
+ * of an operation, the profiler records the time that was spent in its computation, the number of
+ * linking candidates that were considered, the number of types that were demanded from other members
+ * and the number of conformance checks. The time of nested root expressions that are computed on
+ * demand is attributed to the nested expression only.
+ *
+ * The profiler is disabled by default. Clients may bind a specialization
+ * that returns <code>true</code> from {@link #isEnabled()}. By default, the report of each run is
+ * logged with level <code>INFO</code>.
+ *
+ * @since 2.11
+ */
+@Singleton
+public class TypeResolutionProfiler {
+
+	private static final Logger LOG = Logger.getLogger(TypeResolutionProfiler.class);
+
+	/**
+	 * The number of recordings that were started and not yet stopped, by any profiler.
+	 */
+	private static final AtomicInteger activeRecordings = new AtomicInteger();
+
+	/**
+	 * Returns <code>true</code> if any recording is in progress. Allows hot paths like the conformance
+	 * computation to skip their notifications cheaply while no run is profiled.
+	 */
+	public static boolean isRecording() {
+		return activeRecordings.get() != 0;
+	}
+
+	public boolean isEnabled() {
+		return false;
+	}
+
+	/**
+	 * Creates the recording for a new resolution run of the given root.
+	 */
+	public Recording startRecording(EObject root) {
+		return new Recording(root);
+	}
+
+	/**
+	 * Invoked when the resolution run of the given recording is done.
+	 */
+	public void finished(Recording recording) {
+		recording.stop();
+		report(recording);
+	}
+
+	protected void report(Recording recording) {
+		if (LOG.isInfoEnabled()) {
+			LOG.info(recording.getReport(getReportSize()));
+		}
+	}
+
+	/**
+	 * The number of root expressions and feature calls that are listed in the report.
+	 */
+	protected int getReportSize() {
+		return 10;
+	}
+
+	/**
+	 * The counters of a root expression, a feature call or a complete resolution run.
+	 */
+	public static class Statistics {
+		private final XExpression expression;
+		private long nanos;
+		private int count;
+		private int linkingCandidates;
+		private int demandedTypes;
+		private int conformanceChecks;
+
+		protected Statistics(/* @Nullable */ XExpression expression) {
+			this.expression = expression;
+		}
+
+		/* @Nullable */
+		public XExpression getExpression() {
+			return expression;
+		}
+
+		/**
+		 * The time that was spent in the computation of a root expression, excluding nested root expressions.
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		/**
+		 * The number of times a root expression was computed or a feature call was linked.
+		 */
+		public int getCount() {
+			return count;
+		}
+
+		public int getLinkingCandidates() {
+			return linkingCandidates;
+		}
+
+		public int getDemandedTypes() {
+			return demandedTypes;
+		}
+
+		public int getConformanceChecks() {
+			return conformanceChecks;
+		}
+
+		protected void add(Statistics other) {
+			nanos += other.nanos;
+			count += other.count;
+			linkingCandidates += other.linkingCandidates;
+			demandedTypes += other.demandedTypes;
+			conformanceChecks += other.conformanceChecks;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%.1fms, linking candidates: %d, demanded types: %d, conformance checks: %d",
+					nanos / 1000000d, linkingCandidates, demandedTypes, conformanceChecks);
+		}
+	}
+
+	/**
+	 * The computation of a root expression that is in progress in the current thread.
+	 */
+	static class Frame {
+		private final Recording recording;
+		private final Frame parent;
+		private final Statistics statistics;
+		private final long start;
+		private long nestedNanos;
+
+		Frame(Recording recording, Frame parent, XExpression rootExpression) {
+			this.recording = recording;
+			this.parent = parent;
+			this.statistics = new Statistics(rootExpression);
+			this.start = System.nanoTime();
+		}
+	}
+
+	/**
+	 * The statistics of a single resolution run. Events may be recorded by multiple threads.
+	 */
+	public static class Recording {
+		private static final ThreadLocal<Frame> currentFrame = new ThreadLocal<Frame>();
+
+		private final EObject root;
+		private final long start = System.nanoTime();
+		private long nanos = -1;
+		private final Map<XExpression, Statistics> rootExpressions = Maps.newLinkedHashMap();
+		private final Map<XExpression, Statistics> featureCalls = Maps.newLinkedHashMap();
+		/**
+		 * Events that did not happen during the computation of a root expression of this run.
+		 */
+		private final Statistics unattributed = new Statistics(null);
+
+		protected Recording(EObject root) {
+			this.root = root;
+			activeRecordings.incrementAndGet();
+		}
+
+		public EObject getRoot() {
+			return root;
+		}
+
+		Frame enterRootExpression(XExpression rootExpression) {
+			Frame result = new Frame(this, currentFrame.get(), rootExpression);
+			currentFrame.set(result);
+			return result;
+		}
+
+		void exitRootExpression(Frame frame) {
+			long nanos = System.nanoTime() - frame.start;
+			currentFrame.set(frame.parent);
+			if (frame.parent != null) {
+				frame.parent.nestedNanos += nanos;
+			}
+			Statistics statistics = frame.statistics;
+			statistics.nanos = nanos - frame.nestedNanos;
+			statistics.count = 1;
+			synchronized (this) {
+				Statistics existing = rootExpressions.get(statistics.expression);
+				if (existing == null) {
+					rootExpressions.put(statistics.expression, statistics);
+				} else {
+					existing.add(statistics);
+				}
+			}
+		}
+
+		/* @Nullable */
+		private Frame getCurrentFrame() {
+			Frame result = currentFrame.get();
+			if (result == null || result.recording != this) {
+				return null;
+			}
+			return result;
+		}
+
+		void linkingCandidatesConsidered(XExpression featureCall, int candidates) {
+			Frame frame = getCurrentFrame();
+			if (frame != null) {
+				frame.statistics.linkingCandidates += candidates;
+			}
+			synchronized (this) {
+				if (frame == null) {
+					unattributed.linkingCandidates += candidates;
+				}
+				Statistics statistics = featureCalls.get(featureCall);
+				if (statistics == null) {
+					statistics = new Statistics(featureCall);
+					featureCalls.put(featureCall, statistics);
+				}
+				statistics.count++;
+				statistics.linkingCandidates += candidates;
+			}
+		}
+
+		void typeDemanded() {
+			Frame frame = getCurrentFrame();
+			if (frame != null) {
+				frame.statistics.demandedTypes++;
+			} else {
+				synchronized (this) {
+					unattributed.demandedTypes++;
+				}
+			}
+		}
+
+		void conformanceChecked() {
+			Frame frame = getCurrentFrame();
+			if (frame != null) {
+				frame.statistics.conformanceChecks++;
+			} else {
+				synchronized (this) {
+					unattributed.conformanceChecks++;
+				}
+			}
+		}
+
+		protected void stop() {
+			if (nanos < 0) {
+				nanos = System.nanoTime() - start;
+				activeRecordings.decrementAndGet();
+			}
+		}
+
+		/**
+		 * The duration of the complete run, or <code>-1</code> if it is still in progress.
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		/**
+		 * The sum of the counters of all root expressions and the events that happened outside of them.
+		 */
+		public synchronized Statistics getTotal() {
+			Statistics result = new Statistics(null);
+			for (Statistics statistics : rootExpressions.values()) {
+				result.add(statistics);
+			}
+			result.add(unattributed);
+			return result;
+		}
+
+		/**
+		 * The root expressions of this run, the slowest first.
+		 */
+		public synchronized List<Statistics> getRootExpressions() {
+			List<Statistics> result = new ArrayList<Statistics>(rootExpressions.values());
+			Collections.sort(result, new Comparator<Statistics>() {
+				@Override
+				public int compare(Statistics o1, Statistics o2) {
+					return Long.compare(o2.nanos, o1.nanos);
+				}
+			});
+			return result;
+		}
+
+		/**
+		 * The linked feature and constructor calls of this run, the ones with the most linking candidates first.
+		 */
+		public synchronized List<Statistics> getFeatureCalls() {
+			List<Statistics> result = new ArrayList<Statistics>(featureCalls.values());
+			Collections.sort(result, new Comparator<Statistics>() {
+				@Override
+				public int compare(Statistics o1, Statistics o2) {
+					return Integer.compare(o2.linkingCandidates, o1.linkingCandidates);
+				}
+			});
+			return result;
+		}
+
+		public String getReport(int size) {
+			StringBuilder result = new StringBuilder();
+			Resource resource = root.eResource();
+			result.append("Type resolution of ").append(resource != null ? resource.getURI() : root);
+			result.append(String.format(" took %.1fms", nanos / 1000000d)).append('\n');
+			result.append("  ").append(getTotal()).append('\n');
+			result.append("Slowest root expressions:\n");
+			List<Statistics> rootExpressions = getRootExpressions();
+			for (Statistics statistics : rootExpressions.subList(0, Math.min(size, rootExpressions.size()))) {
+				result.append("  ").append(getLocation(statistics.expression)).append(": ").append(statistics).append('\n');
+			}
+			result.append("Feature calls with the most linking candidates:\n");
+			List<Statistics> featureCalls = getFeatureCalls();
+			for (Statistics statistics : featureCalls.subList(0, Math.min(size, featureCalls.size()))) {
+				result.append("  ").append(getLocation(statistics.expression)).append(": ")
+					.append(statistics.linkingCandidates).append(" candidates in ")
+					.append(statistics.count).append(" attempts\n");
+			}
+			return result.toString();
+		}
+
+		protected String getLocation(XExpression expression) {
+			ICompositeNode node = NodeModelUtils.findActualNodeFor(expression);
+			if (node == null) {
+				return expression.eClass().getName();
+			}
+			String text = node.getText().trim();
+			int lineBreak = text.indexOf('\n');
+			if (lineBreak >= 0 || text.length() > 40) {
+				text = text.substring(0, Math.min(lineBreak >= 0 ? lineBreak : text.length(), 40)).trim() + "...";
+			}
+			return "line " + node.getStartLine() + " '" + text + "'";
+		}
+	}
+
+}
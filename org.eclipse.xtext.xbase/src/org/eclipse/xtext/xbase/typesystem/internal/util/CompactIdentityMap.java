@@ -0,0 +1,325 @@
+/*******************************************************************************
+ * Copyright (c) 2016 itemis AG (http://www.itemis.eu) and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.typesystem.internal.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map that compares its keys by identity and iterates its entries in insertion order.
+ *
+ * Keys and values are stored in two arrays in the order of their insertion. An open addressing
+ * table with linear probing points into these arrays, thus no entry objects are allocated
+ * when a mapping is added. Removed mappings leave a gap in the arrays until the map is resized.
+ *
+ * The map does not support <code>null</code> keys. Entries that are obtained from the
+ * {@link #entrySet() entry set} are only valid until the map is structurally modified.
+ *
+ * @since 2.11
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public class CompactIdentityMap<K, V> extends AbstractMap<K, V> {
+
+	private static final Object REMOVED = new Object();
+
+	private static final int DEFAULT_CAPACITY = 4;
+
+	private Object[] keys;
+	private Object[] values;
+	/**
+	 * The index of the mapping in {@link #keys} plus one, or zero for free slots.
+	 */
+	private int[] table;
+	/**
+	 * The number of used slots in {@link #keys}, including removed ones.
+	 */
+	private int used;
+	private int size;
+	private int modCount;
+	private Set<Map.Entry<K, V>> entrySet;
+
+	public CompactIdentityMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize the number of mappings that the map can hold without being resized.
+	 */
+	public CompactIdentityMap(int expectedSize) {
+		allocate(Math.max(expectedSize, 2));
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		// keep the load factor of the table at or below 0.5
+		table = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+	}
+
+	private static int hash(Object key) {
+		int h = System.identityHashCode(key);
+		return h ^ (h >>> 16);
+	}
+
+	private int indexOf(Object key) {
+		if (key == null) {
+			return -1;
+		}
+		int[] table = this.table;
+		int mask = table.length - 1;
+		for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+			int entry = table[i];
+			if (entry == 0) {
+				return -1;
+			}
+			if (keys[entry - 1] == key) {
+				return entry - 1;
+			}
+		}
+	}
+
+	/**
+	 * Makes sure that the map can hold the given number of mappings without being resized.
+	 */
+	public void ensureCapacity(int expectedSize) {
+		if (used + expectedSize - size > keys.length) {
+			resize(Math.max(expectedSize, keys.length));
+		}
+	}
+
+	private void resize(int capacity) {
+		Object[] oldKeys = keys;
+		Object[] oldValues = values;
+		int oldUsed = used;
+		allocate(capacity);
+		used = 0;
+		int mask = table.length - 1;
+		for (int i = 0; i < oldUsed; i++) {
+			Object key = oldKeys[i];
+			if (key != REMOVED) {
+				keys[used] = key;
+				values[used] = oldValues[i];
+				used++;
+				int slot = hash(key) & mask;
+				while (table[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = used;
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) != -1;
+	}
+
+	@Override
+	public V get(Object key) {
+		int index = indexOf(key);
+		if (index == -1) {
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		V result = (V) values[index];
+		return result;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		if (key == null) {
+			throw new NullPointerException("key may not be null");
+		}
+		int index = indexOf(key);
+		if (index != -1) {
+			@SuppressWarnings("unchecked")
+			V result = (V) values[index];
+			values[index] = value;
+			return result;
+		}
+		if (used == keys.length) {
+			// reuse the gaps of removed mappings if at least a quarter of the slots are free
+			resize(size < keys.length - keys.length / 4 ? keys.length : keys.length * 2);
+		}
+		int mask = table.length - 1;
+		int slot = hash(key) & mask;
+		while (table[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		keys[used] = key;
+		values[used] = value;
+		used++;
+		table[slot] = used;
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		int index = indexOf(key);
+		if (index == -1) {
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		V result = (V) values[index];
+		removeAt(index);
+		return result;
+	}
+
+	private void removeAt(int index) {
+		// the slot in the table still points to the index, so the probe sequences stay intact
+		keys[index] = REMOVED;
+		values[index] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if (used != 0) {
+			Arrays.fill(keys, 0, used, null);
+			Arrays.fill(values, 0, used, null);
+			Arrays.fill(table, 0);
+			used = 0;
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					CompactIdentityMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+		private int next = skipRemoved(0);
+		private int current = -1;
+		private int expectedModCount = modCount;
+
+		private int skipRemoved(int index) {
+			while (index < used && keys[index] == REMOVED) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < used;
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= used) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			next = skipRemoved(next + 1);
+			return new Entry(current);
+		}
+
+		@Override
+		public void remove() {
+			if (current == -1) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt(current);
+			current = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private class Entry implements Map.Entry<K, V> {
+		private final int index;
+
+		Entry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public K getKey() {
+			return (K) keys[index];
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return (V) values[index];
+		}
+
+		@Override
+		public V setValue(V value) {
+			V result = getValue();
+			values[index] = value;
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Map.Entry<?, ?>)) {
+				return false;
+			}
+			Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+			return getKey() == other.getKey() && getValue() == other.getValue();
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(getKey()) ^ System.identityHashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+}
@@ -36,7 +36,7 @@ public class WrapperTypeLookup {
 		JvmType type = (JvmType) contents.get(0);
 		if (type == null)
 			return null;
-		return owner.newParameterizedTypeReference(type);
+		return owner.toPlainTypeReference(type);
 	}
 	
 	/* @Nullable */
@@ -52,6 +52,13 @@ public abstract class AbstractResolvedFeatures {
 		return type;
 	}
 	
+	/**
+	 * @since 2.11
+	 */
+	protected OverrideTester getOverrideTester() {
+		return overrideTester;
+	}
+	
 	protected JvmType getRawType() {
 		return type.getType();
 	}
@@ -23,6 +23,7 @@ import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 import org.eclipse.xtext.xbase.typesystem.util.ContextualVisibilityHelper;
 import org.eclipse.xtext.xbase.typesystem.util.IVisibilityHelper;
+import org.eclipse.xtext.xbase.typesystem.util.PublicVisibilityHelper;
 import org.eclipse.xtext.xbase.typesystem.util.TypeParameterSubstitutor;
 
 import com.google.common.collect.Sets;
@@ -46,6 +47,26 @@ public class OverrideTester {
 		this(IVisibilityHelper.ALL);
 	}
 	
+	/**
+	 * Returns a key that identifies the semantics of this tester, or <code>null</code> if the results
+	 * of this tester must not be shared with other testers. Testers with equal keys compute the same results.
+	 * 
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected Object getSharedCacheKey() {
+		if (getClass() != OverrideTester.class) {
+			return null;
+		}
+		if (visibilityHelper == IVisibilityHelper.ALL) {
+			return visibilityHelper;
+		}
+		if (visibilityHelper.getClass() == PublicVisibilityHelper.class) {
+			return PublicVisibilityHelper.class;
+		}
+		return null;
+	}
+	
 	/**
 	 * Checks if the overriding method and the given overridden candidate have compatible subsignatures
 	 * according to JLS 8.4.2. Uses information about static-ness and visibility for early exits.
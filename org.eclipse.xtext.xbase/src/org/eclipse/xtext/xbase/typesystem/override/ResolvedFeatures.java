@@ -11,9 +11,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmField;
@@ -21,12 +26,20 @@ import org.eclipse.xtext.common.types.JvmGenericType;
 import org.eclipse.xtext.common.types.JvmOperation;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeReference;
+import org.eclipse.xtext.common.types.access.IMirror;
+import org.eclipse.xtext.common.types.access.IMirrorExtension;
+import org.eclipse.xtext.common.types.access.TypeResource;
+import org.eclipse.xtext.common.types.util.RawSuperTypes;
 import org.eclipse.xtext.common.types.util.TypesSwitch;
+import org.eclipse.xtext.resource.ISynchronizable;
 import org.eclipse.xtext.util.JavaVersion;
+import org.eclipse.xtext.util.Pair;
+import org.eclipse.xtext.util.Tuples;
 import org.eclipse.xtext.xbase.typesystem.override.IOverrideCheckResult.OverrideCheckDetails;
 import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
 
 import com.google.common.base.Function;
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.LinkedHashMultiset;
 import com.google.common.collect.ListMultimap;
@@ -124,15 +137,103 @@ public class ResolvedFeatures extends AbstractResolvedFeatures {
 		if (!(rawType instanceof JvmDeclaredType)) {
 			return Collections.emptyList();
 		}
+		if (isSealedOperationsCacheEnabled() && getOverrideTester().getSharedCacheKey() != null) {
+			SealedOperationsCache cache = SealedOperationsCache.findOrCreate((JvmDeclaredType) rawType);
+			if (cache != null) {
+				List<IResolvedOperation> result = computeAllOperationsFromCache((JvmDeclaredType) rawType, cache);
+				if (result != null) {
+					return result;
+				}
+			}
+		}
+		return computeAllOperations((JvmDeclaredType) rawType);
+	}
+	
+	/**
+	 * Returns <code>true</code> if the operations of sealed types, e.g. types from class files,
+	 * may be taken from the {@link SealedOperationsCache}. Specializations that customize the
+	 * computation of all operations should disable the cache. The cache is not used for override
+	 * testers without a {@link OverrideTester#getSharedCacheKey() shared cache key}, either.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean isSealedOperationsCacheEnabled() {
+		return getClass() == ResolvedFeatures.class;
+	}
+	
+	/**
+	 * Creates the resolved operations from the cached declarations. The declarations are computed in the
+	 * context of the type's own type parameters. Returns <code>null</code> if the cached declarations cannot
+	 * be used for the current type, e.g. if the type arguments make one inherited operation override another one.
+	 * 
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected List<IResolvedOperation> computeAllOperationsFromCache(JvmDeclaredType rawType, SealedOperationsCache cache) {
+		Object overrideTesterKey = getOverrideTester().getSharedCacheKey();
+		List<JvmOperation> operations = cache.get(targetVersion, overrideTesterKey);
+		if (operations == null) {
+			LightweightTypeReference declaration = getType().getOwner().toLightweightTypeReference(rawType);
+			ResolvedFeatures declaredFeatures = new ResolvedFeatures(declaration, getOverrideTester(), targetVersion);
+			operations = cache.put(targetVersion, overrideTesterKey, declaredFeatures.computeAllOperations(rawType));
+		}
+		if (operations == SealedOperationsCache.NOT_CACHEABLE) {
+			return null;
+		}
+		List<IResolvedOperation> declaredOperations = getDeclaredOperations();
+		List<IResolvedOperation> result = new ArrayList<IResolvedOperation>(operations.size());
+		result.addAll(declaredOperations);
+		for (int i = declaredOperations.size(); i < operations.size(); i++) {
+			result.add(createResolvedOperation(operations.get(i)));
+		}
+		if (!isOverrideFree(result, declaredOperations.size())) {
+			return null;
+		}
+		return Collections.unmodifiableList(result);
+	}
+	
+	/**
+	 * Checks that none of the inherited operations is overridden by or conflicts with a preceding operation
+	 * with the same name and number of parameters in the context of the current type.
+	 */
+	private boolean isOverrideFree(List<IResolvedOperation> operations, int declaredOperations) {
+		Multimap<String, IResolvedOperation> processedOperations = ArrayListMultimap.create();
+		for (int i = 0; i < operations.size(); i++) {
+			IResolvedOperation operation = operations.get(i);
+			JvmOperation declaration = operation.getDeclaration();
+			String simpleName = declaration.getSimpleName();
+			if (i >= declaredOperations && processedOperations.containsKey(simpleName)) {
+				for (IResolvedOperation candidate : processedOperations.get(simpleName)) {
+					JvmOperation candidateDeclaration = candidate.getDeclaration();
+					if (candidateDeclaration.getDeclaringType() != declaration.getDeclaringType()
+							&& candidateDeclaration.getParameters().size() == declaration.getParameters().size()) {
+						IOverrideCheckResult checkResult = getOverrideTester().isSubsignature((AbstractResolvedOperation) candidate, declaration, false);
+						if (checkResult.isOverridingOrImplementing() || checkResult.getDetails().contains(OverrideCheckDetails.DEFAULT_IMPL_CONFLICT)) {
+							return false;
+						}
+					}
+				}
+			}
+			processedOperations.put(simpleName, operation);
+		}
+		return true;
+	}
+	
+	/**
+	 * Computes all operations of the given type by traversing its type hierarchy.
+	 * 
+	 * @since 2.11
+	 */
+	protected List<IResolvedOperation> computeAllOperations(JvmDeclaredType rawType) {
 		Multimap<String, AbstractResolvedOperation> processedOperations = LinkedHashMultimap.create();
 		for (IResolvedOperation resolvedOperation : getDeclaredOperations()) {
 			processedOperations.put(resolvedOperation.getDeclaration().getSimpleName(), (AbstractResolvedOperation) resolvedOperation);
 		}
 		if (targetVersion.isAtLeast(JavaVersion.JAVA8)) {
-			computeAllOperationsFromSortedSuperTypes((JvmDeclaredType) rawType, processedOperations);
+			computeAllOperationsFromSortedSuperTypes(rawType, processedOperations);
 		} else {
-			Set<JvmType> processedTypes = Sets.newHashSet(rawType);
-			computeAllOperationsFromSuperTypes((JvmDeclaredType) rawType, processedOperations, processedTypes);
+			Set<JvmType> processedTypes = Sets.newHashSet((JvmType) rawType);
+			computeAllOperationsFromSuperTypes(rawType, processedOperations, processedTypes);
 		}
 		// make sure the declared operations are the first in the list
 		List<IResolvedOperation> result = new ArrayList<IResolvedOperation>(processedOperations.size());
@@ -407,4 +508,89 @@ public class ResolvedFeatures extends AbstractResolvedFeatures {
 		return true;
 	}
 
+	/**
+	 * Remembers the declarations of all operations of a sealed type per target version and override
+	 * semantics, i.e. the {@link OverrideTester#getSharedCacheKey() shared cache key} of the tester. Sealed types
+	 * are read from class files and do not change, so the cache is attached to the type and lives as
+	 * long as the type is part of its resource set. It is only used if all super types are sealed, too.
+	 * 
+	 * @since 2.11
+	 */
+	protected static class SealedOperationsCache extends AdapterImpl {
+		
+		/**
+		 * Indicates that the operations of the type cannot be cached for a target version, e.g. since
+		 * it inherits conflicting default implementations.
+		 */
+		protected static final List<JvmOperation> NOT_CACHEABLE = Collections.unmodifiableList(new ArrayList<JvmOperation>(0));
+		
+		/**
+		 * Returns the cache for the given type or <code>null</code> if the type or one of its super types is not sealed.
+		 * An existing cache is returned without locking. The type is shared by all clients of its resource set,
+		 * so a new adapter is attached while the lock of the resource set is held.
+		 */
+		/* @Nullable */
+		public static SealedOperationsCache findOrCreate(JvmDeclaredType type) {
+			SealedOperationsCache existing = (SealedOperationsCache) EcoreUtil.getAdapter(type.eAdapters(), SealedOperationsCache.class);
+			if (existing != null || !isSealed(type)) {
+				return existing;
+			}
+			for(JvmType superType: new RawSuperTypes().collect(type)) {
+				if (!isSealed(superType)) {
+					return null;
+				}
+			}
+			Resource resource = type.eResource();
+			Object lock = resource instanceof ISynchronizable<?> ? ((ISynchronizable<?>) resource).getLock() : type;
+			synchronized (lock) {
+				SealedOperationsCache result = (SealedOperationsCache) EcoreUtil.getAdapter(type.eAdapters(), SealedOperationsCache.class);
+				if (result == null) {
+					result = new SealedOperationsCache();
+					type.eAdapters().add(result);
+				}
+				return result;
+			}
+		}
+		
+		private static boolean isSealed(JvmType type) {
+			Resource resource = type.eResource();
+			if (resource instanceof TypeResource) {
+				IMirror mirror = ((TypeResource) resource).getMirror();
+				return mirror instanceof IMirrorExtension && ((IMirrorExtension) mirror).isSealed();
+			}
+			return false;
+		}
+		
+		private final Map<Pair<JavaVersion, Object>, List<JvmOperation>> operations = new ConcurrentHashMap<Pair<JavaVersion, Object>, List<JvmOperation>>();
+		
+		/* @Nullable */
+		public List<JvmOperation> get(JavaVersion targetVersion, Object overrideTesterKey) {
+			return operations.get(Tuples.create(targetVersion, overrideTesterKey));
+		}
+		
+		/**
+		 * Stores the declarations of the given operations and returns them, or {@link #NOT_CACHEABLE}.
+		 */
+		public List<JvmOperation> put(JavaVersion targetVersion, Object overrideTesterKey, List<IResolvedOperation> allOperations) {
+			List<JvmOperation> result = new ArrayList<JvmOperation>(allOperations.size());
+			for(IResolvedOperation operation: allOperations) {
+				if (operation instanceof ConflictingDefaultOperation) {
+					result = NOT_CACHEABLE;
+					break;
+				}
+				result.add(operation.getDeclaration());
+			}
+			if (result != NOT_CACHEABLE) {
+				result = Collections.unmodifiableList(result);
+			}
+			operations.put(Tuples.create(targetVersion, overrideTesterKey), result);
+			return result;
+		}
+		
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return SealedOperationsCache.class == type;
+		}
+	}
+
 }
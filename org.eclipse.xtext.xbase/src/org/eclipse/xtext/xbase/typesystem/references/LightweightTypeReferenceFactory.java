@@ -89,6 +89,10 @@ public class LightweightTypeReferenceFactory extends AbstractXtypeReferenceVisit
 			LightweightTypeReference componentTypeReference = toLightweightReference(componentType);
 			return owner.newArrayTypeReference(componentTypeReference);
 		}
+		ParameterizedTypeReference interned = getInternedTypeReference(type);
+		if (interned != null) {
+			return interned;
+		}
 		ParameterizedTypeReference result = owner.newParameterizedTypeReference(type);
 		if (type.eClass() == TypesPackage.Literals.JVM_GENERIC_TYPE) {
 			result.accept(new TypeReferenceVisitor() {
@@ -119,8 +123,27 @@ public class LightweightTypeReferenceFactory extends AbstractXtypeReferenceVisit
 			LightweightTypeReference componentTypeReference = toPlainTypeReference(componentType);
 			return owner.newArrayTypeReference(componentTypeReference);
 		}
+		ParameterizedTypeReference interned = getInternedTypeReference(type);
+		if (interned != null) {
+			return interned;
+		}
 		return owner.newParameterizedTypeReference(type);
 	}
+	
+	/**
+	 * Returns the reference to the given type that is shared by the clients of the owner, if the
+	 * owner interns references to non-generic types.
+	 * 
+	 * @see StandardTypeReferenceOwner#getInternedTypeReference(JvmType)
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	protected ParameterizedTypeReference getInternedTypeReference(JvmType type) {
+		if (owner instanceof StandardTypeReferenceOwner) {
+			return ((StandardTypeReferenceOwner) owner).getInternedTypeReference(type);
+		}
+		return null;
+	}
 
 	@Override
 	public LightweightTypeReference doVisitAnyTypeReference(JvmAnyTypeReference reference) {
@@ -174,8 +197,15 @@ public class LightweightTypeReferenceFactory extends AbstractXtypeReferenceVisit
 		if (type == null || type.eIsProxy()) {
 			return createUnknownTypeReference(reference);
 		}
+		List<JvmTypeReference> arguments = reference.getArguments();
+		if (arguments.isEmpty()) {
+			ParameterizedTypeReference interned = getInternedTypeReference(type);
+			if (interned != null) {
+				return interned;
+			}
+		}
 		ParameterizedTypeReference result = owner.newParameterizedTypeReference(type);
-		for(JvmTypeReference argument: reference.getArguments()) {
+		for(JvmTypeReference argument: arguments) {
 			result.addTypeArgument(visit(argument).getWrapperTypeIfPrimitive());
 		}
 		return result;
@@ -257,7 +257,7 @@ public class ParameterizedTypeReference extends LightweightTypeReference {
 	private LightweightTypeReference findPrimitive(String primitive) {
 		JvmType result = (JvmType) getOwner().getContextResourceSet().getEObject(URIHelperConstants.PRIMITIVES_URI.appendFragment(primitive), true);
 		if (result != null) {
-			return getOwner().newParameterizedTypeReference(result);
+			return getOwner().toPlainTypeReference(result);
 		}
 		throw new IllegalStateException("Cannot find primitive type: " + primitive);
 	}
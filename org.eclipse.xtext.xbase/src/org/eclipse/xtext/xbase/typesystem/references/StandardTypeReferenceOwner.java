@@ -9,15 +9,20 @@ package org.eclipse.xtext.xbase.typesystem.references;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmGenericType;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
 import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.TypesPackage;
+import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceResultCache;
 import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
 
 /**
@@ -31,6 +36,7 @@ public class StandardTypeReferenceOwner implements ITypeReferenceOwner {
 	private final CommonTypeComputationServices services;
 	private final ResourceSet context;
 	private LightweightTypeReferenceFactory factory;
+	private volatile ConcurrentMap<JvmType, ParameterizedTypeReference> internedReferences;
 
 	public StandardTypeReferenceOwner(CommonTypeComputationServices services, /* @Nullable */ ResourceSet context) {
 		this.services = services;
@@ -70,6 +76,82 @@ public class StandardTypeReferenceOwner implements ITypeReferenceOwner {
 		return context;
 	}
 
+	/**
+	 * Returns the cache for conformance results that may be used by this owner, or <code>null</code>
+	 * if results should not be cached.
+	 * 
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	public ConformanceResultCache getConformanceResultCache() {
+		return null;
+	}
+
+	/**
+	 * Invoked by the {@link org.eclipse.xtext.xbase.typesystem.conformance.TypeConformanceComputer TypeConformanceComputer}
+	 * for each conformance check whose left operand is owned by this owner, including the nested checks for type arguments.
+	 * Does nothing by default.
+	 * 
+	 * @since 2.11
+	 */
+	public void conformanceChecked() {
+	}
+
+	/**
+	 * Returns the reference to the given type that is shared by all clients of this owner, or <code>null</code>
+	 * if the type is not {@link #isInternable(JvmType) internable}. References to non-generic types
+	 * like {@link String} or <code>int</code> don't have any mutable state, thus they are only created once
+	 * per owner. Clients may not add type arguments to the result.
+	 * 
+	 * @since 2.11
+	 */
+	/* @Nullable */
+	public ParameterizedTypeReference getInternedTypeReference(JvmType type) {
+		if (!isInternable(type)) {
+			return null;
+		}
+		ConcurrentMap<JvmType, ParameterizedTypeReference> references = internedReferences;
+		if (references == null) {
+			synchronized (this) {
+				references = internedReferences;
+				if (references == null) {
+					// the owner of the resolved types may be used concurrently
+					references = new ConcurrentHashMap<JvmType, ParameterizedTypeReference>();
+					internedReferences = references;
+				}
+			}
+		}
+		ParameterizedTypeReference result = references.get(type);
+		if (result == null) {
+			result = newParameterizedTypeReference(type);
+			ParameterizedTypeReference existing = references.putIfAbsent(type, result);
+			if (existing != null) {
+				return existing;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns <code>true</code> for resolved types that neither declare type parameters nor 
+	 * are inner classes, e.g. primitives, enums or non-generic classes.
+	 * 
+	 * @since 2.11
+	 */
+	protected boolean isInternable(JvmType type) {
+		if (type.eIsProxy()) {
+			return false;
+		}
+		EClass eClass = type.eClass();
+		if (eClass == TypesPackage.Literals.JVM_GENERIC_TYPE) {
+			return ((JvmGenericType) type).getTypeParameters().isEmpty() && !factory.isInner(type);
+		}
+		return eClass == TypesPackage.Literals.JVM_PRIMITIVE_TYPE
+				|| eClass == TypesPackage.Literals.JVM_VOID
+				|| eClass == TypesPackage.Literals.JVM_ENUMERATION_TYPE
+				|| eClass == TypesPackage.Literals.JVM_ANNOTATION_TYPE;
+	}
+
 	/**
 	 * @throws UnsupportedOperationException always
 	 */
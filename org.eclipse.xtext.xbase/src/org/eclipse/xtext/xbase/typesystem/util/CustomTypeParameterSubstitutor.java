@@ -163,6 +163,10 @@ public abstract class CustomTypeParameterSubstitutor extends TypeParameterSubsti
 			LightweightTypeReference result = visitTypeArgument(original, visitingInfo);
 			return result;
 		} else {
+			// resolved references are not touched by the visitor, so don't allocate the visiting info
+			if (original.isResolved() && original.isOwnedBy(getOwner())) {
+				return original;
+			}
 			LightweightTypeReference result = original.accept(this, createVisiting());
 			return result;
 		}
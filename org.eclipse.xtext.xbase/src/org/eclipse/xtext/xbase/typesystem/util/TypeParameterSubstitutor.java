@@ -7,6 +7,7 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.typesystem.util;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.xtext.common.types.JvmType;
@@ -219,11 +220,86 @@ public abstract class TypeParameterSubstitutor<Visiting> extends TypeReferenceVi
 	}
 
 	public LightweightTypeReference substitute(LightweightTypeReference original) {
-		if (typeParameterMapping.isEmpty())
-			return original;
+		// references of other owners are always copied into this owner
+		if (original.isOwnedBy(getOwner())) {
+			if (typeParameterMapping.isEmpty()) {
+				// unresolved references are copied since clients may modify the result
+				if (original.isResolved())
+					return original;
+			} else if (!isSubstitutionRequired(original, false)) {
+				return original;
+			}
+		}
 		return original.accept(this, createVisiting());
 	}
 	
+	/**
+	 * Returns <code>false</code> if the given reference does not mention any of the mapped type parameters
+	 * nor any unbound type reference, that is, the substitution would yield an equivalent copy of the reference.
+	 * The check does not create new references and doesn't need a recursion guard since the mapping is not
+	 * followed.
+	 * 
+	 * @param functionParameter if the reference is the parameter type of a function type
+	 * @since 2.11
+	 */
+	protected boolean isSubstitutionRequired(LightweightTypeReference reference, boolean functionParameter) {
+		switch(reference.getKind()) {
+			case LightweightTypeReference.KIND_ANY_TYPE_REFERENCE:
+			case LightweightTypeReference.KIND_UNKNOWN_TYPE_REFERENCE:
+				return false;
+			case LightweightTypeReference.KIND_UNBOUND_TYPE_REFERENCE:
+				return true;
+			case LightweightTypeReference.KIND_WILDCARD_TYPE_REFERENCE:
+				// the lower bound of a wildcard may be replaced by its upper bound when it is visited as a function parameter
+				if (functionParameter)
+					return true;
+				break;
+			default:
+				break;
+		}
+		if (reference.isResolved())
+			return false;
+		switch(reference.getKind()) {
+			case LightweightTypeReference.KIND_PARAMETERIZED_TYPE_REFERENCE:
+				return typeParameterMapping.containsKey(reference.getType()) || isSubstitutionRequired(reference.getTypeArguments());
+			case LightweightTypeReference.KIND_INNER_TYPE_REFERENCE:
+				return isSubstitutionRequired(reference.getOuter(), false) || isSubstitutionRequired(reference.getTypeArguments());
+			case LightweightTypeReference.KIND_INNER_FUNCTION_TYPE_REFERENCE:
+				if (isSubstitutionRequired(reference.getOuter(), false))
+					return true;
+				//$FALL-THROUGH$
+			case LightweightTypeReference.KIND_FUNCTION_TYPE_REFERENCE: {
+				FunctionTypeReference functionType = (FunctionTypeReference) reference;
+				List<LightweightTypeReference> parameterTypes = functionType.getParameterTypes();
+				for(int i = 0, size = parameterTypes.size(); i < size; i++) {
+					if (isSubstitutionRequired(parameterTypes.get(i), true))
+						return true;
+				}
+				LightweightTypeReference returnType = functionType.getReturnType();
+				return returnType != null && isSubstitutionRequired(returnType, false) || isSubstitutionRequired(reference.getTypeArguments());
+			}
+			case LightweightTypeReference.KIND_ARRAY_TYPE_REFERENCE:
+				return isSubstitutionRequired(reference.getComponentType(), false);
+			case LightweightTypeReference.KIND_WILDCARD_TYPE_REFERENCE: {
+				WildcardTypeReference wildcard = (WildcardTypeReference) reference;
+				LightweightTypeReference lowerBound = wildcard.getLowerBound();
+				return lowerBound != null && isSubstitutionRequired(lowerBound, false) || isSubstitutionRequired(wildcard.getUpperBounds());
+			}
+			case LightweightTypeReference.KIND_COMPOUND_TYPE_REFERENCE:
+				return isSubstitutionRequired(reference.getMultiTypeComponents());
+			default:
+				return true;
+		}
+	}
+	
+	private boolean isSubstitutionRequired(List<LightweightTypeReference> references) {
+		for(int i = 0, size = references.size(); i < size; i++) {
+			if (isSubstitutionRequired(references.get(i), false))
+				return true;
+		}
+		return false;
+	}
+	
 	public LightweightTypeReference substitute(JvmTypeReference original) {
 		LightweightTypeReference lightweightReference = getOwner().toLightweightTypeReference(original);
 		return substitute(lightweightReference);
@@ -13,6 +13,7 @@ import static org.eclipse.xtext.xbase.lib.IterableExtensions.*;
 import static org.eclipse.xtext.xbase.validation.IssueCodes.*;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -58,6 +59,10 @@ import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.internal.Stopwatches;
+import org.eclipse.xtext.util.internal.Stopwatches.StopwatchForTask;
+import org.eclipse.xtext.util.internal.Stopwatches.StoppedTask;
+import org.eclipse.xtext.validation.AbstractDeclarativeValidator;
 import org.eclipse.xtext.validation.Check;
 import org.eclipse.xtext.validation.ComposedChecks;
 import org.eclipse.xtext.validation.ValidationMessageAcceptor;
@@ -209,6 +214,49 @@ public class XbaseValidator extends AbstractXbaseValidator {
 		return services;
 	}
 	
+	/**
+	 * Measures each invocation of a check method with a {@link Stopwatches stopwatch} if stopwatches are
+	 * enabled when the check methods are collected, i.e. when the validator is used for the first time.
+	 * 
+	 * @since 2.11
+	 */
+	@Override
+	protected MethodWrapper createMethodWrapper(AbstractDeclarativeValidator instanceToUse, Method method) {
+		// disabled stopwatches return a shared no-op task
+		if (Stopwatches.forTask(StopwatchMethodWrapper.getTaskName(method)) instanceof StopwatchForTask) {
+			return new StopwatchMethodWrapper(instanceToUse, method);
+		}
+		return super.createMethodWrapper(instanceToUse, method);
+	}
+	
+	/**
+	 * @since 2.11
+	 */
+	protected static class StopwatchMethodWrapper extends MethodWrapper {
+		
+		private final String taskName;
+		
+		protected StopwatchMethodWrapper(AbstractDeclarativeValidator instance, Method method) {
+			super(instance, method);
+			this.taskName = getTaskName(method);
+		}
+		
+		protected static String getTaskName(Method method) {
+			return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+		}
+		
+		@Override
+		public void invoke(State state) {
+			StoppedTask task = Stopwatches.forTask(taskName);
+			try {
+				task.start();
+				super.invoke(state);
+			} finally {
+				task.stop();
+			}
+		}
+	}
+	
 	protected LightweightTypeReference getActualType(EObject context, JvmIdentifiableElement element) {
 		return typeResolver.resolveTypes(context).getActualType(element);
 	}
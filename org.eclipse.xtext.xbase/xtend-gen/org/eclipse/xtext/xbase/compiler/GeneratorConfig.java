@@ -51,6 +51,19 @@ public class GeneratorConfig {
    */
   private JavaVersion javaSourceVersion = JavaVersion.JAVA5;
   
+  /**
+   * Whether operations on compile-time constants shall be folded into a single literal.
+   * @since 2.11
+   */
+  private boolean foldConstantExpressions = false;
+  
+  /**
+   * Whether closures that do not capture any state shall be compiled to static fields of the enclosing type
+   * instead of being instantiated on each evaluation. Only applies to Java versions prior to Java 8.
+   * @since 2.11
+   */
+  private boolean hoistNonCapturingClosures = false;
+  
   /**
    * Copy the values of the given generator configuration.
    */
@@ -61,6 +74,8 @@ public class GeneratorConfig {
     this.includeDateInGeneratedAnnotation = other.includeDateInGeneratedAnnotation;
     this.generatedAnnotationComment = other.generatedAnnotationComment;
     this.javaSourceVersion = other.javaSourceVersion;
+    this.foldConstantExpressions = other.foldConstantExpressions;
+    this.hoistNonCapturingClosures = other.hoistNonCapturingClosures;
     return this;
   }
   
@@ -117,4 +132,22 @@ public class GeneratorConfig {
   public void setJavaSourceVersion(final JavaVersion javaSourceVersion) {
     this.javaSourceVersion = javaSourceVersion;
   }
+  
+  @Pure
+  public boolean isFoldConstantExpressions() {
+    return this.foldConstantExpressions;
+  }
+  
+  public void setFoldConstantExpressions(final boolean foldConstantExpressions) {
+    this.foldConstantExpressions = foldConstantExpressions;
+  }
+  
+  @Pure
+  public boolean isHoistNonCapturingClosures() {
+    return this.hoistNonCapturingClosures;
+  }
+  
+  public void setHoistNonCapturingClosures(final boolean hoistNonCapturingClosures) {
+    this.hoistNonCapturingClosures = hoistNonCapturingClosures;
+  }
 }
@@ -89,6 +89,7 @@ import org.eclipse.xtext.util.ITextRegionWithLineInformation;
 import org.eclipse.xtext.util.JavaVersion;
 import org.eclipse.xtext.util.ReplaceRegion;
 import org.eclipse.xtext.util.Strings;
+import org.eclipse.xtext.util.internal.Stopwatches;
 import org.eclipse.xtext.validation.Issue;
 import org.eclipse.xtext.workspace.IProjectConfig;
 import org.eclipse.xtext.xbase.XExpression;
@@ -211,12 +212,18 @@ public class JvmModelGenerator implements IGenerator {
     String _qualifiedName = type.getQualifiedName();
     boolean _notEquals = (!Objects.equal(_qualifiedName, null));
     if (_notEquals) {
-      String _qualifiedName_1 = type.getQualifiedName();
-      String _replace = _qualifiedName_1.replace(".", "/");
-      String _plus = (_replace + ".java");
-      GeneratorConfig _get = this.generatorConfigProvider.get(type);
-      CharSequence _generateType = this.generateType(type, _get);
-      fsa.generateFile(_plus, _generateType);
+      final Stopwatches.StoppedTask task = Stopwatches.forTask("JvmModelGenerator.generateType");
+      task.start();
+      try {
+        String _qualifiedName_1 = type.getQualifiedName();
+        String _replace = _qualifiedName_1.replace(".", "/");
+        String _plus = (_replace + ".java");
+        GeneratorConfig _get = this.generatorConfigProvider.get(type);
+        CharSequence _generateType = this.generateType(type, _get);
+        fsa.generateFile(_plus, _generateType);
+      } finally {
+        task.stop();
+      }
     }
   }
   
@@ -301,6 +308,8 @@ public class JvmModelGenerator implements IGenerator {
       ITreeAppendable _append = appendable.append("{");
       _append.increaseIndentation();
       Iterable<JvmMember> _membersToBeCompiled = this.getMembersToBeCompiled(it);
+      this.compiler.compileHoistedClosures(it, _membersToBeCompiled, appendable);
+      Iterable<JvmMember> _membersToBeCompiled_1 = this.getMembersToBeCompiled(it);
       final Procedure1<LoopParams> _function = (LoopParams it_1) -> {
         final Function1<ITreeAppendable, ITreeAppendable> _function_1 = (ITreeAppendable it_2) -> {
           return it_2.newLine();
@@ -313,7 +322,7 @@ public class JvmModelGenerator implements IGenerator {
         this.generateMember(it_1, memberAppendable, config);
         memberAppendable.closeScope();
       };
-      this._loopExtensions.<JvmMember>forEach(appendable, _membersToBeCompiled, _function, _function_1);
+      this._loopExtensions.<JvmMember>forEach(appendable, _membersToBeCompiled_1, _function, _function_1);
       ITreeAppendable _decreaseIndentation = appendable.decreaseIndentation();
       ITreeAppendable _newLine = _decreaseIndentation.newLine();
       _xblockexpression = _newLine.append("}");
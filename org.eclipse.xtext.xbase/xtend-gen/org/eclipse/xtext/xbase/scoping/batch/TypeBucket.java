@@ -15,6 +15,7 @@ import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Pure;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
+import org.eclipse.xtext.xbase.scoping.batch.StaticFeatureIndex;
 import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceFlags;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
 
@@ -35,6 +36,8 @@ public class TypeBucket {
   
   private final IResolvedFeatures.Provider resolvedFeaturesProvider;
   
+  private transient StaticFeatureIndex staticFeatureIndex;
+  
   public int getFlags() {
     return ConformanceFlags.CHECKED_SUCCESS;
   }
@@ -47,6 +50,33 @@ public class TypeBucket {
     return false;
   }
   
+  /**
+   * The static features of the types in this bucket by their simple name.
+   * The index is built on first access.
+   * 
+   * @since 2.11
+   */
+  public StaticFeatureIndex getStaticFeatureIndex() {
+    if ((this.staticFeatureIndex == null)) {
+      this.staticFeatureIndex = this.createStaticFeatureIndex();
+    }
+    return this.staticFeatureIndex;
+  }
+  
+  /**
+   * @since 2.11
+   */
+  protected StaticFeatureIndex createStaticFeatureIndex() {
+    final List<? extends JvmType> types = this.getTypes();
+    if ((types instanceof StaticFeatureIndex)) {
+      boolean _isIndexedBy = ((StaticFeatureIndex)types).isIndexedBy(this.resolvedFeaturesProvider);
+      if (_isIndexedBy) {
+        return ((StaticFeatureIndex)types);
+      }
+    }
+    return new StaticFeatureIndex(types, this.resolvedFeaturesProvider);
+  }
+  
   public TypeBucket(final int id, final List<? extends JvmType> types, final IResolvedFeatures.Provider resolvedFeaturesProvider) {
     super();
     this.id = id;
@@ -15,6 +15,7 @@ import org.eclipse.xtend.lib.annotations.Data;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.xbase.lib.Pure;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
+import org.eclipse.xtext.xbase.scoping.batch.StaticFeatureIndex;
 import org.eclipse.xtext.xbase.scoping.batch.TypeBucket;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
 
@@ -45,6 +46,12 @@ public class TypeWithRestrictedNamesBucket extends TypeBucket {
     return new ArrayList<JvmType>(_keySet);
   }
   
+  @Override
+  protected StaticFeatureIndex createStaticFeatureIndex() {
+    IResolvedFeatures.Provider _resolvedFeaturesProvider = this.getResolvedFeaturesProvider();
+    return new StaticFeatureIndex(this.typesToNames, _resolvedFeaturesProvider);
+  }
+  
   @Override
   @Pure
   public int hashCode() {